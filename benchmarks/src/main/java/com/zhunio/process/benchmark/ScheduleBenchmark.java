@@ -0,0 +1,127 @@
+package com.zhunio.process.benchmark;
+
+import com.zhunio.process.queue.ReadyQueue;
+import com.zhunio.process.schedule.algorithm.FCFS;
+import com.zhunio.process.schedule.algorithm.P_PL;
+import com.zhunio.process.schedule.gantt.GanttSink;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Measures a whole simulation of {@code FCFS} and {@code P_PL}, from a
+ * loaded ready queue to the last entry of the Gantt chart. The chart goes
+ * to a sink that only counts entries, so the output is left out. FCFS
+ * ignores quantum and priorities, so it only varies the number of
+ * processes.
+ *
+ * A simulation consumes its ready queue, so a new one is loaded before
+ * every invocation. That setup is only accurate for invocations of a
+ * millisecond or more, so the pools start at 10^5 processes; 10^4 already
+ * simulates in under a millisecond.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+public class ScheduleBenchmark {
+
+	/**
+	 * Job pool for {@code FCFS}.
+	 */
+	@State(Scope.Benchmark)
+	public static class FcfsPool {
+		@Param({"100000", "1000000", "10000000"})
+		public int processes;
+
+		/* The job pool */
+		private SyntheticPool pool;
+
+		/* Ready queue consumed by the next simulation */
+		private ReadyQueue readyQueue;
+
+		@Setup(Level.Trial)
+		public void generate() {
+			pool = new SyntheticPool(processes, SyntheticPool.Priorities.UNIFORM);
+		}
+
+		@Setup(Level.Invocation)
+		public void load() {
+			readyQueue = pool.readyQueue(1);
+		}
+	}
+
+	/**
+	 * Job pool for {@code P_PL}.
+	 */
+	@State(Scope.Benchmark)
+	public static class PriorityPool {
+		@Param({"100000", "1000000", "10000000"})
+		public int processes;
+
+		@Param({"1", "4", "16"})
+		public int quantumTime;
+
+		@Param({"NARROW", "UNIFORM", "SKEWED", "WIDE"})
+		public SyntheticPool.Priorities priorities;
+
+		/* The job pool */
+		private SyntheticPool pool;
+
+		/* Ready queue consumed by the next simulation */
+		private ReadyQueue readyQueue;
+
+		@Setup(Level.Trial)
+		public void generate() {
+			pool = new SyntheticPool(processes, priorities);
+		}
+
+		@Setup(Level.Invocation)
+		public void load() {
+			readyQueue = pool.readyQueue(quantumTime);
+		}
+	}
+
+	/**
+	 * Counts the entries of the Gantt chart.
+	 */
+	private static class CountingSink implements GanttSink {
+		/* Number of entries */
+		private long entries;
+
+		@Override
+		public void emit(int start, int end, int processID) {
+			entries++;
+		}
+	}
+
+	@Benchmark
+	public long fcfs(FcfsPool pool) {
+		CountingSink sink = new CountingSink();
+		new FCFS().run(pool.readyQueue, sink);
+
+		return sink.entries;
+	}
+
+	@Benchmark
+	public long priorityPreemptive(PriorityPool pool) {
+		CountingSink sink = new CountingSink();
+		new P_PL().run(pool.readyQueue, sink);
+
+		return sink.entries;
+	}
+}
@@ -0,0 +1,108 @@
+package com.zhunio.process.benchmark;
+
+import com.zhunio.process.ProcessTable;
+import com.zhunio.process.queue.ReadyQueue;
+import com.zhunio.process.queue.SortedHandleQueue;
+
+import java.util.Random;
+
+/**
+ * Created on 10/17/26.
+ *
+ * A job pool generated from a fixed seed, so every benchmark run simulates
+ * the same processes. Arrivals are a Poisson process whose mean gap equals
+ * the mean burst time, keeping the CPU close to fully loaded, bursts are
+ * uniform in [1, 20] and priorities follow the given {@code Priorities}.
+ */
+public class SyntheticPool {
+	/* Seed of every generated job pool */
+	private static final long SEED = 0x5EED;
+
+	/* Longest burst time */
+	private static final int MAX_BURST = 20;
+
+	/* Arrive time of every process, ascending */
+	private int[] arriveTimes;
+
+	/* Burst time of every process */
+	private int[] burstTimes;
+
+	/* Priority of every process */
+	private int[] priorities;
+
+	/**
+	 * Distributions of the priorities of the processes.
+	 */
+	public enum Priorities {
+		/* A handful of levels, [1, 4] */
+		NARROW,
+
+		/* Uniform in [1, 100] */
+		UNIFORM,
+
+		/* Geometric over [1, 100], most processes at the lowest levels */
+		SKEWED,
+
+		/* Uniform over the whole int range, too wide to bucket */
+		WIDE;
+
+		/**
+		 * Draws a priority.
+		 *
+		 * @param random the source of randomness.
+		 * @return the priority.
+		 */
+		int next(Random random) {
+			switch (this) {
+				case NARROW:
+					return 1 + random.nextInt(4);
+				case UNIFORM:
+					return 1 + random.nextInt(100);
+				case SKEWED:
+					return Math.min(100, 1 + (int) (-Math.log(1 - random.nextDouble()) * 8));
+				default:
+					return random.nextInt();
+			}
+		}
+	}
+
+	/**
+	 * Generates a job pool.
+	 *
+	 * @param processes  the number of processes.
+	 * @param priorities the distribution of the priorities.
+	 */
+	SyntheticPool(int processes, Priorities priorities) {
+		Random random = new Random(SEED);
+		double meanGap = (MAX_BURST + 1) / 2.0;
+
+		this.arriveTimes = new int[processes];
+		this.burstTimes = new int[processes];
+		this.priorities = new int[processes];
+
+		double time = 0;
+		for (int i = 0; i < processes; i++) {
+			time += -Math.log(1 - random.nextDouble()) * meanGap;
+			arriveTimes[i] = (int) time;
+			burstTimes[i] = 1 + random.nextInt(MAX_BURST);
+			this.priorities[i] = priorities.next(random);
+		}
+	}
+
+	/**
+	 * Loads the job pool into a new ready queue, as the parser does for a
+	 * job pool sorted by arrive time.
+	 *
+	 * @param quantumTime the quantum time.
+	 * @return the ready queue.
+	 */
+	ReadyQueue readyQueue(int quantumTime) {
+		ProcessTable table = new ProcessTable(arriveTimes.length);
+
+		for (int i = 0; i < arriveTimes.length; i++)
+			table.add(i + 1, arriveTimes[i], burstTimes[i], priorities[i]);
+
+		return new ReadyQueue(true, quantumTime, table,
+			new SortedHandleQueue(arriveTimes.length));
+	}
+}
@@ -0,0 +1,72 @@
+package com.zhunio.process.schedule;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Measures how long {@code JobPoolParser} and {@code ParallelJobPoolParser}
+ * take to parse a text job pool into a ready queue, written by
+ * {@code JobPoolGenerator} with its default settings. The benchmark lives in
+ * the package of the parsers, which are not public.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx4g"})
+@State(Scope.Benchmark)
+public class JobPoolParserBenchmark {
+	/* Seed of the job pool */
+	private static final long SEED = 0x5EED;
+
+	@Param({"1000", "10000", "100000", "1000000", "10000000"})
+	public int processes;
+
+	@Param({"false", "true"})
+	public boolean parallel;
+
+	/* The job pool on disk */
+	private Path jobPool;
+
+	@Setup(Level.Trial)
+	public void write() throws Exception {
+		jobPool = Files.createTempFile("pool", ".data");
+
+		JobPoolGenerator generator = new JobPoolGenerator();
+		generator.setSeed(SEED);
+		generator.setProcessNo(processes);
+		generator.generate(jobPool.toString());
+	}
+
+	@TearDown(Level.Trial)
+	public void delete() throws Exception {
+		Files.deleteIfExists(jobPool);
+	}
+
+	@Benchmark
+	public int parse() throws Exception {
+		JobPoolParser parser = parallel
+			? new ParallelJobPoolParser(jobPool.toString(), ForkJoinPool.commonPool())
+			: new JobPoolParser(jobPool.toString());
+
+		return parser.parse().size();
+	}
+}
@@ -0,0 +1,65 @@
+package com.zhunio.process.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Param;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Runs the setup and the benchmark method of every state of
+ * {@code ScheduleBenchmark} once, at the smallest number of processes it
+ * declares, so a broken state fails the build rather than a benchmark run.
+ */
+class ScheduleBenchmarkTest {
+
+	@Test
+	void fcfsRunsEveryProcessOnce() throws Exception {
+		ScheduleBenchmark.FcfsPool pool = new ScheduleBenchmark.FcfsPool();
+		pool.processes = smallest(ScheduleBenchmark.FcfsPool.class, "processes");
+		pool.generate();
+		pool.load();
+
+		assertEquals(pool.processes, new ScheduleBenchmark().fcfs(pool));
+	}
+
+	@Test
+	void priorityPreemptiveRunsEveryParameter() throws Exception {
+		int processes = smallest(ScheduleBenchmark.PriorityPool.class, "processes");
+		String[] quantumTimes = ScheduleBenchmark.PriorityPool.class
+			.getField("quantumTime").getAnnotation(Param.class).value();
+
+		for (SyntheticPool.Priorities priorities : SyntheticPool.Priorities.values()) {
+			for (String quantumTime : quantumTimes) {
+				ScheduleBenchmark.PriorityPool pool = new ScheduleBenchmark.PriorityPool();
+				pool.processes = processes;
+				pool.quantumTime = Integer.parseInt(quantumTime);
+				pool.priorities = priorities;
+				pool.generate();
+				pool.load();
+
+				// Every process runs at least once, preempted ones more
+				long entries = new ScheduleBenchmark().priorityPreemptive(pool);
+				assertTrue(entries >= processes, priorities + " quantum " + quantumTime
+					+ ": " + entries + " entries for " + processes + " processes");
+			}
+		}
+	}
+
+	/**
+	 * Finds the smallest value of an int parameter of a state.
+	 *
+	 * @param state the class of the state.
+	 * @param field the name of the parameter.
+	 * @return the smallest value.
+	 * @throws Exception if the state has no such parameter.
+	 */
+	static int smallest(Class<?> state, String field) throws Exception {
+		return Arrays.stream(state.getField(field).getAnnotation(Param.class).value())
+			.mapToInt(Integer::parseInt).min().getAsInt();
+	}
+}
@@ -0,0 +1,37 @@
+package com.zhunio.process.schedule;
+
+import org.junit.jupiter.api.Test;
+import org.openjdk.jmh.annotations.Param;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Runs the setup, the benchmark method and the teardown of
+ * {@code JobPoolParserBenchmark} once for both parsers, at the smallest
+ * number of processes it declares.
+ */
+class JobPoolParserBenchmarkTest {
+
+	@Test
+	void bothParsersReadEveryProcess() throws Exception {
+		int processes = Arrays.stream(JobPoolParserBenchmark.class.getField("processes")
+			.getAnnotation(Param.class).value()).mapToInt(Integer::parseInt).min().getAsInt();
+
+		for (boolean parallel : new boolean[]{false, true}) {
+			JobPoolParserBenchmark benchmark = new JobPoolParserBenchmark();
+			benchmark.processes = processes;
+			benchmark.parallel = parallel;
+			benchmark.write();
+
+			try {
+				assertEquals(processes, benchmark.parse(), "parallel " + parallel);
+			} finally {
+				benchmark.delete();
+			}
+		}
+	}
+}
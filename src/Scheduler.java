@@ -1,12 +1,25 @@
-import com.zhunio.process.PCB;
 import com.zhunio.process.queue.ReadyQueue;
 import com.zhunio.process.schedule.CPUScheduler;
+import com.zhunio.process.schedule.JobBatch;
 import com.zhunio.process.schedule.JobScheduler;
 import com.zhunio.process.schedule.ScheduleAlgorithm;
+import com.zhunio.process.schedule.algorithm.P_PL;
+import com.zhunio.process.schedule.gantt.BinaryGanttSink;
+import com.zhunio.process.schedule.gantt.CoalescingGanttSink;
+import com.zhunio.process.schedule.gantt.FileGanttSink;
+import com.zhunio.process.schedule.gantt.GanttSink;
+import com.zhunio.process.schedule.gantt.IndexingGanttSink;
+import com.zhunio.process.schedule.gantt.UtilizationSummarySink;
+import com.zhunio.process.schedule.jfr.TimedGanttSink;
+import com.zhunio.process.schedule.metrics.SchedulingMetrics;
+import com.zhunio.process.schedule.stats.SchedulerStats;
 
 import java.io.File;
-import java.io.PrintWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Created on 10/17/17.
@@ -28,6 +41,41 @@ import java.util.List;
  * @author Richard I. Zhunio
  */
 public class Scheduler {
+	/* Name of the binary output file */
+	private static final String BINARY_OUTPUT = "output.gantt";
+
+	/* Name of the summary output file */
+	private static final String SUMMARY_OUTPUT = "output.summary";
+
+	/* Name of the index of the output file */
+	private static final String INDEX_OUTPUT = "output.index";
+
+	/* Name of the metrics report */
+	private static final String METRICS_OUTPUT = "output.metrics";
+
+	/* Suffix of the directory of the output files of a job pool of a batch */
+	private static final String BATCH_OUTPUT_SUFFIX = ".out";
+
+	/* Whether the job pool is streamed into the simulation */
+	private boolean streaming;
+
+	/* Whether the job pool is sorted on disk and streamed into the simulation */
+	private boolean externalSort;
+
+	/* Whether adjacent slices of the same process are merged in the output */
+	private boolean coalesce;
+
+	/* Whether the output is written in the binary Gantt chart format */
+	private boolean binaryOutput;
+
+	/* Length of the windows of the summary output, 0 for no summary */
+	private int summaryWindow;
+
+	/* Whether an index of the output is written for queries */
+	private boolean index;
+
+	/* Whether the scheduling metrics are reported */
+	private boolean metrics;
 
 	/**
 	 * Main program making use of this Scheduler class. Main program could be
@@ -35,6 +83,26 @@ public class Scheduler {
 	 * otherwise.
 	 * @param args first argument should be the input file, and second argument
 	 *             should be schedule algorithm specified as string (i.e P_PL).
+	 *             They may be preceded by the following options:
+	 *             --stream to simulate while a job pool sorted by arrive
+	 *             time is still being read, --external-sort to sort a job
+	 *             pool larger than memory on disk and stream it,
+	 *             --coalesce to merge adjacent slices of the same process,
+	 *             --binary-output to write a binary output.gantt instead,
+	 *             --summary WINDOW to write the CPU utilization per WINDOW
+	 *             time units to output.summary instead,
+	 *             --index to also write output.index, to be queried with
+	 *             GanttQuery,
+	 *             --metrics to also write the waiting, turnaround and
+	 *             response times to output.metrics,
+	 *             --stats SECONDS to count the work of the simulation,
+	 *             published over JMX and printed every SECONDS seconds
+	 *             (0 for JMX only),
+	 *             --aging INTERVAL STEP to lower the priority of a process
+	 *             waiting for P_PL by STEP every INTERVAL time units,
+	 *             --batch to take the input file as a directory or glob of
+	 *             job pools, simulated WORKERS at a time as set by
+	 *             --workers WORKERS (the number of processors by default).
 	 * @throws Exception If an error occurs
 	 */
 	public static void main(String[] args) throws Exception {
@@ -45,28 +113,178 @@ public class Scheduler {
 		// Default schedule algorithm
 		String jobPool = "input.data";
 		String schedAlgorithm = "FCFS";
+		int agingInterval = 0;
+		int agingStep = 0;
+		int statsInterval = 0;
+		boolean batch = false;
+		int workers = 0;
+
+		// Options come before the input file and schedule algorithm
+		int first = 0;
+		while (first < args.length && args[first].startsWith("--")) {
+			switch (args[first++]) {
+				case "--stream":
+					scheduler.setStreaming(true);
+					break;
+				case "--external-sort":
+					scheduler.setExternalSort(true);
+					break;
+				case "--coalesce":
+					scheduler.setCoalesce(true);
+					break;
+				case "--binary-output":
+					scheduler.setBinaryOutput(true);
+					break;
+				case "--index":
+					scheduler.setIndex(true);
+					break;
+				case "--metrics":
+					scheduler.setMetrics(true);
+					break;
+				case "--stats":
+					if (args.length - first < 1) {
+						System.err.println("Expecting stats interval.");
+						System.exit(1);
+					}
+					try {
+						statsInterval = Integer.parseInt(args[first++]);
+					} catch (NumberFormatException e) {
+						System.err.println("Invalid stats interval: " + e.getMessage());
+						System.exit(1);
+					}
+					if (statsInterval < 0) {
+						System.err.println("Invalid stats interval: " + statsInterval);
+						System.exit(1);
+					}
+
+					// Read once, when the counters are first used
+					System.setProperty("scheduler.stats", "true");
+					break;
+				case "--summary":
+					if (args.length - first < 1) {
+						System.err.println("Expecting summary window.");
+						System.exit(1);
+					}
+					try {
+						scheduler.setSummaryWindow(Integer.parseInt(args[first++]));
+					} catch (IllegalArgumentException e) {
+						System.err.println("Invalid summary window: " + e.getMessage());
+						System.exit(1);
+					}
+					break;
+				case "--batch":
+					batch = true;
+					break;
+				case "--workers":
+					if (args.length - first < 1) {
+						System.err.println("Expecting number of workers.");
+						System.exit(1);
+					}
+					try {
+						workers = Integer.parseInt(args[first++]);
+					} catch (NumberFormatException e) {
+						System.err.println("Invalid number of workers: " + e.getMessage());
+						System.exit(1);
+					}
+					if (workers < 1) {
+						System.err.println("Invalid number of workers: " + workers);
+						System.exit(1);
+					}
+					break;
+				case "--aging":
+					if (args.length - first < 2) {
+						System.err.println("Expecting aging interval and step.");
+						System.exit(1);
+					}
+					try {
+						agingInterval = Integer.parseInt(args[first++]);
+						agingStep = Integer.parseInt(args[first++]);
+					} catch (NumberFormatException e) {
+						System.err.println("Invalid aging interval or step: " + e.getMessage());
+						System.exit(1);
+					}
+					break;
+				default:
+					System.err.println("Unknown option: " + args[first - 1]);
+					System.exit(1);
+			}
+		}
 
 		// Check for invalid number of cmd arguments
-		if (args.length > 2) {
+		if (args.length - first > 2) {
 			System.err.println("Wrong number of cmd arguments.");
 			System.exit(1);
 		}
 
+		// A batch has no default input file
+		if (batch && args.length - first != 2) {
+			System.err.println("Expecting directory or glob of job pools and schedule algorithm.");
+			System.exit(1);
+		}
+		if (workers != 0 && !batch) {
+			System.err.println("Workers are only supported by --batch");
+			System.exit(1);
+		}
+
 		// If input file and schedule algorithm provided
-		if (args.length == 2) {
-			jobPool = args[0];
-			schedAlgorithm = args[1];
+		if (args.length - first == 2) {
+			jobPool = args[first];
+			schedAlgorithm = args[first + 1];
 		}
 
 		// Generate the schedule algorithm
 		ScheduleAlgorithm scheduleAlgorithm = ScheduleAlgorithm.generate(schedAlgorithm);
 
+		// Only P_PL ages its waiting processes
+		if (agingInterval != 0 || agingStep != 0) {
+			if (!(scheduleAlgorithm instanceof P_PL)) {
+				System.err.println("Aging is only supported by " + ScheduleAlgorithm.P_PL);
+				System.exit(1);
+			}
+			try {
+				((P_PL) scheduleAlgorithm).setAging(agingInterval, agingStep);
+			} catch (IllegalArgumentException e) {
+				System.err.println(e.getMessage());
+				System.exit(1);
+			}
+		}
+
+		if (statsInterval > 0)
+			SchedulerStats.startProgress(statsInterval);
+
+		if (batch) {
+			long start = System.nanoTime();
+			List<JobBatch.Result> results = null;
+
+			try {
+				// Execute the scheduler on every job pool
+				results = scheduler.executeBatch(jobPool, scheduleAlgorithm,
+					workers != 0 ? workers : Runtime.getRuntime().availableProcessors());
+			} catch (Exception e) {
+				System.err.println(e.getMessage());
+				System.exit(1);
+			}
+
+			JobBatch.printSummary(results, System.nanoTime() - start, System.out);
+
+			if (SchedulerStats.ENABLED)
+				System.err.println(SchedulerStats.progress());
+
+			// Let scripts tell that a job pool failed
+			if (results.stream().anyMatch(JobBatch.Result::isFailed))
+				System.exit(1);
+			return;
+		}
+
 		try {
 			// Execute the scheduler
 			scheduler.execute(jobPool, scheduleAlgorithm);
 		} catch (Exception e) {
 			System.err.println(e.getMessage());
 		}
+
+		if (SchedulerStats.ENABLED)
+			System.err.println(SchedulerStats.progress());
 	}
 
 	/**
@@ -78,32 +296,256 @@ public class Scheduler {
 	 */
 	public void execute(String jobPool, ScheduleAlgorithm scheduleAlgorithm)
 		throws Exception {
+		ReadyQueue readyQueue = load(jobPool);
+
+		try {
+			simulate(jobPool, readyQueue, scheduleAlgorithm,
+				getOutputFile(jobPool).getParentFile());
+		} finally {
+			// Stop the parser of a streamed job pool if the simulation failed
+			readyQueue.close();
+		}
+	}
+
+	/**
+	 * Performs the given {@code ScheduleAlgorithm} on every job pool found by
+	 * {@code JobBatch.find}, loading the next job pools while others are
+	 * simulated. As job pools may share a directory, the output of every job
+	 * pool is written into a directory named after it with an .out suffix,
+	 * e.g. pools/a.data.out/output.data. A job pool that fails leaves no
+	 * output and does not stop the others.
+	 * @param pattern directory or glob of the job pools.
+	 * @param scheduleAlgorithm Schedule algorithm to perform.
+	 * @param workers number of job pools simulated at once.
+	 * @return the result of every job pool.
+	 * @throws Exception if the job pools cannot be listed or there are none.
+	 */
+	public List<JobBatch.Result> executeBatch(String pattern, ScheduleAlgorithm scheduleAlgorithm,
+											  int workers) throws Exception {
+		// Leave out the output of earlier batches, which a glob may match
+		List<Path> jobPools = JobBatch.find(pattern).stream()
+			.filter(file -> !isBatchOutput(file))
+			.collect(Collectors.toList());
+		if (jobPools.isEmpty())
+			throw new Exception("No job pools found: " + pattern);
+
+		JobBatch batch = new JobBatch(workers, this::load, (jobPool, readyQueue) -> {
+			File outputDirectory = new File(jobPool + BATCH_OUTPUT_SUFFIX);
+			Files.createDirectories(outputDirectory.toPath());
+
+			try {
+				simulate(jobPool, readyQueue, scheduleAlgorithm, outputDirectory);
+			} catch (Exception e) {
+				// Only removed if nothing else was in it
+				outputDirectory.delete();
+				throw e;
+			}
+		});
+
+		return batch.run(jobPools);
+	}
+
+	/**
+	 * Checks if a file is in the output directory of a job pool of a batch.
+	 * @param file the file.
+	 * @return true if the file is output of a batch.
+	 */
+	private static boolean isBatchOutput(Path file) {
+		Path directory = file.getParent();
+		if (directory == null || !directory.toString().endsWith(BATCH_OUTPUT_SUFFIX))
+			return false;
+
+		String jobPool = directory.toString();
+		return Files.isRegularFile(Paths.get(
+			jobPool.substring(0, jobPool.length() - BATCH_OUTPUT_SUFFIX.length())));
+	}
+
+	/**
+	 * Loads the job pool into a ready queue, or starts streaming it into
+	 * one while the simulation runs.
+	 * @param jobPool path to the file.
+	 * @return the ready queue.
+	 * @throws Exception if the job pool is invalid.
+	 */
+	private ReadyQueue load(String jobPool) throws Exception {
 		// Create new job scheduler
 		JobScheduler jobScheduler = new JobScheduler(jobPool);
 
-		// Load the job pool into the ready queue
-		ReadyQueue<PCB> readyQueue = jobScheduler.loadJobPool();
+		// Load the job pool into the ready queue, or stream it while the
+		// simulation runs
+		return externalSort ? jobScheduler.sortJobPool()
+			: streaming ? jobScheduler.streamJobPool()
+			: jobScheduler.loadJobPool();
+	}
 
+	/**
+	 * Performs the given {@code ScheduleAlgorithm} on a loaded job pool,
+	 * writing the output files into the given directory.
+	 * @param jobPool path to the file.
+	 * @param readyQueue the ready queue the job pool was loaded into.
+	 * @param scheduleAlgorithm Schedule algorithm to perform.
+	 * @param outputDirectory directory of the output files.
+	 * @throws Exception if an error occurs.
+	 */
+	private void simulate(String jobPool, ReadyQueue readyQueue,
+						  ScheduleAlgorithm scheduleAlgorithm, File outputDirectory)
+		throws Exception {
 		// Create a cpu scheduler with the ready queue loaded in memory
 		CPUScheduler cpuScheduler = new CPUScheduler(readyQueue, scheduleAlgorithm);
 
-		// Begin dispatching the processes in the ready queue and obtain
-		// a log
-		List<String> log = cpuScheduler.dispatch();
-
 		// Generate output file name
-		File outputFile = getOutputFile(jobPool);
+		File outputFile = new File(outputDirectory, getOutputFile(jobPool).getName());
+		if (summaryWindow > 0)
+			outputFile = new File(outputDirectory, SUMMARY_OUTPUT);
+		else if (binaryOutput)
+			outputFile = new File(outputDirectory, BINARY_OUTPUT);
+		File indexFile = new File(outputDirectory, INDEX_OUTPUT);
+		File metricsFile = new File(outputDirectory, METRICS_OUTPUT);
+
+		// Begin dispatching the processes in the ready queue, saving the log
+		// into the file as it is produced
+		GanttSink sink = createSink(outputFile, indexFile, scheduleAlgorithm, readyQueue);
 
-		// Save the log into a file
-		PrintWriter writer = new PrintWriter(outputFile);
-		log.forEach(writer::println);
-		writer.close();
+		// Time the output apart from the simulation for Flight Recorder
+		if (TimedGanttSink.isEnabled())
+			sink = new TimedGanttSink(sink, outputFile.getPath());
+		try {
+			if (metrics) {
+				SchedulingMetrics schedulingMetrics = cpuScheduler.dispatchMeasured(sink);
+				sink.close();
+				schedulingMetrics.writeReport(metricsFile);
+			} else {
+				cpuScheduler.dispatch(sink);
+				sink.close();
+			}
+		} catch (Exception e) {
+			// Do not leave a partial log behind
+			try {
+				sink.close();
+			} catch (Exception ignored) {
+				// The log is discarded anyway
+			}
+			outputFile.delete();
+			if (index)
+				indexFile.delete();
+			if (metrics)
+				metricsFile.delete();
+			throw e;
+		}
+	}
+
+	/**
+	 * Creates the sink writing the log into the output file in the format
+	 * that was asked for.
+	 * @param outputFile the output file.
+	 * @param indexFile the index of the output file.
+	 * @param scheduleAlgorithm the schedule algorithm performed.
+	 * @param readyQueue the ready queue being dispatched.
+	 * @return the sink receiving the log.
+	 * @throws Exception if the output file cannot be written.
+	 */
+	private GanttSink createSink(File outputFile, File indexFile,
+								 ScheduleAlgorithm scheduleAlgorithm, ReadyQueue readyQueue)
+		throws Exception {
+		GanttSink sink;
+
+		if (summaryWindow > 0)
+			sink = new UtilizationSummarySink(outputFile, summaryWindow);
+		else if (binaryOutput)
+			sink = new BinaryGanttSink(outputFile, scheduleAlgorithm.getName(),
+				readyQueue.getQuantumTime());
+		else
+			sink = new FileGanttSink(outputFile);
+
+		// Index the entries as they are written, after they are merged
+		if (index)
+			sink = new IndexingGanttSink(sink, indexFile);
+
+		return coalesce ? new CoalescingGanttSink(sink) : sink;
+	}
+
+	/**
+	 * Sets whether the job pool is streamed into the simulation while it is
+	 * read, rather than loaded before the simulation starts. The job pool must
+	 * then be sorted by arrive time.
+	 * @param streaming true to stream the job pool, false to load it first.
+	 */
+	public void setStreaming(boolean streaming) {
+		this.streaming = streaming;
+	}
+
+	/**
+	 * Sets whether the job pool is sorted by arrive time with an external
+	 * merge sort and streamed into the simulation. Unlike streaming, the job
+	 * pool may be in any order, and memory stays bounded even if it does not
+	 * fit in the heap.
+	 * @param externalSort true to sort the job pool on disk, false otherwise.
+	 */
+	public void setExternalSort(boolean externalSort) {
+		this.externalSort = externalSort;
+	}
+
+	/**
+	 * Sets whether adjacent slices of the same process are merged into a
+	 * single line of the output, whatever the schedule algorithm.
+	 * @param coalesce true to merge adjacent slices, false to write every
+	 *                 slice.
+	 */
+	public void setCoalesce(boolean coalesce) {
+		this.coalesce = coalesce;
+	}
+
+	/**
+	 * Sets whether the output is written in the binary Gantt chart format,
+	 * as output.gantt next to the input file, rather than as text. Use
+	 * {@code GanttConverter} to turn it back into text.
+	 * @param binaryOutput true to write binary output, false to write text.
+	 */
+	public void setBinaryOutput(boolean binaryOutput) {
+		this.binaryOutput = binaryOutput;
+	}
+
+	/**
+	 * Sets the length of the windows over which the CPU utilization is
+	 * summarized. The summary is written to output.summary next to the input
+	 * file instead of the log, which is never kept.
+	 * @param summaryWindow the length of a window, 0 to write the log.
+	 */
+	public void setSummaryWindow(int summaryWindow) {
+		if (summaryWindow < 0)
+			throw new IllegalArgumentException(String.valueOf(summaryWindow));
+
+		this.summaryWindow = summaryWindow;
+	}
+
+	/**
+	 * Sets whether an index of the log is written to output.index next to
+	 * the input file, so that {@code GanttQuery} finds the process using the
+	 * CPU at a given time, or the entries of a given process, without
+	 * scanning the log.
+	 * @param index true to write the index, false otherwise.
+	 */
+	public void setIndex(boolean index) {
+		this.index = index;
+	}
+
+	/**
+	 * Sets whether the waiting, turnaround and response times of the
+	 * processes are measured during the simulation and reported in
+	 * output.metrics next to the input file, with their mean, 50th and 99th
+	 * percentiles and maximum.
+	 * @param metrics true to report the metrics, false otherwise.
+	 */
+	public void setMetrics(boolean metrics) {
+		this.metrics = metrics;
 	}
 
 	/**
 	 * Generates the output file from the input file. It assures to place the
 	 * output file in the same directory as the input file and also renames
-	 * the generated file to outout.[ext]
+	 * the generated file to outout.[ext]. The extension of a compressed input
+	 * file is the one before its .gz suffix, so input.data.gz yields
+	 * output.data.
 	 * @param file the input file
 	 * @return the generated ooutput file
 	 */
@@ -117,7 +559,9 @@ public class Scheduler {
 		// Get output name
 		String output = "output.";
 
-		// Get extension
+		// Get extension, ignoring the suffix of a compressed file
+		if (file.endsWith(".gz"))
+			file = file.substring(0, file.length() - ".gz".length());
 		String[] split = file.split("\\.");
 		String ext = split[split.length - 1];
 
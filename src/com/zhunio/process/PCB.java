@@ -10,7 +10,8 @@ package com.zhunio.process;
  * be dictated by {@code arriveTime}. A first {@code PCB} is less than or equal to
  * a second {@code PCB} if it arrived before or at the same time as the second
  * {@code PCB}. If the second {@code PCB} arrives before the first {@code PCB},
- * then the second {@code PCB} is greater than the first. Additionally, two
+ * then the second {@code PCB} is greater than the first. {@code PCB}s arriving
+ * at the same time are ordered by {@code processID}. Additionally, two
  * {@code PCB}s are considered equal if they have the same following properties:
  * {@code processID} which is final, {@code arriveTime}, {@code burstTime},
  * {@code priority}, and {@code cpuTime}.
@@ -166,7 +167,9 @@ public class PCB implements Comparable<PCB> {
 	 * P1       0  	2   0
 	 * P2       1   5   0
 	 * <br>
-	 * P1 is less than P2 because it arrived before P2.
+	 * P1 is less than P2 because it arrived before P2. Processes that arrived
+	 * at the same time are ordered by process id, so the order of a
+	 * {@code ReadyQueue} does not depend on how its heap was built.
 	 *
 	 * @param other the other process to compare this process to.
 	 * @return -1 if this {@code PCB} is less than the other {@code PCB},
@@ -175,7 +178,10 @@ public class PCB implements Comparable<PCB> {
 	 */
 	@Override
 	public int compareTo(PCB other) {
-		return new Integer(arriveTime).compareTo(other.arriveTime);
+		if (arriveTime == other.arriveTime)
+			return Integer.compare(processID, other.processID);
+
+		return Integer.compare(arriveTime, other.arriveTime);
 	}
 
 	/**
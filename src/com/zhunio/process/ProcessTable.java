@@ -0,0 +1,353 @@
+package com.zhunio.process;
+
+import java.util.Arrays;
+
+/**
+ * Created on 10/17/26.
+ * <p>
+ * Stores the attributes of many processes in parallel {@code int} columns
+ * rather than one {@code PCB} object per process. A process is referred to by
+ * its handle, the row holding its attributes. Processes added to an empty
+ * table in order of {@code processID} 1..n get the handles 0..n-1, so the
+ * columns are indexed by process ID. A {@code PCB} can be obtained as a copy
+ * of a row.
+ * <p>
+ * A recycling table reuses the rows of released processes, so its size
+ * depends on the number of processes alive at the same time rather than on
+ * the total number of processes.
+ */
+public class ProcessTable {
+	/* Handle standing for no process */
+	public static final int NO_PROCESS = -1;
+
+	/* Process IDs */
+	private int[] processIDs;
+
+	/* Arrive times */
+	private int[] arriveTimes;
+
+	/* Burst times */
+	private int[] burstTimes;
+
+	/* Priorities */
+	private int[] priorities;
+
+	/* CPU times */
+	private int[] cpuTimes;
+
+	/* Number of rows ever used */
+	private int rows;
+
+	/* Whether released rows are reused */
+	private boolean recycling;
+
+	/* Rows released and not reused yet */
+	private int[] freeRows;
+
+	/* Number of rows released and not reused yet */
+	private int freeCount;
+
+	/* Lowest priority ever stored */
+	private int minPriority;
+
+	/* Highest priority ever stored */
+	private int maxPriority;
+
+	/* Whether the priority range was set to cover processes not added yet */
+	private boolean priorityBounds;
+
+	/**
+	 * Creates a new {@code ProcessTable} that never reuses rows.
+	 *
+	 * @param capacity the initial number of rows.
+	 */
+	public ProcessTable(int capacity) {
+		this(capacity, false);
+	}
+
+	/**
+	 * Creates a new {@code ProcessTable}.
+	 *
+	 * @param capacity  the initial number of rows.
+	 * @param recycling true to reuse the rows of released processes.
+	 */
+	public ProcessTable(int capacity, boolean recycling) {
+		capacity = Math.max(1, capacity);
+
+		this.processIDs = new int[capacity];
+		this.arriveTimes = new int[capacity];
+		this.burstTimes = new int[capacity];
+		this.priorities = new int[capacity];
+		this.cpuTimes = new int[capacity];
+		this.recycling = recycling;
+		this.freeRows = new int[recycling ? 16 : 0];
+		this.minPriority = Integer.MAX_VALUE;
+		this.maxPriority = Integer.MIN_VALUE;
+	}
+
+	/**
+	 * Adds a process with no CPU time.
+	 *
+	 * @param processID  the process ID.
+	 * @param arriveTime the arrive time of the process.
+	 * @param burstTime  the burst time of the process.
+	 * @param priority   the priority of the process.
+	 * @return the handle of the process.
+	 */
+	public int add(int processID, int arriveTime, int burstTime, int priority) {
+		int handle;
+
+		// Reuse a released row if possible
+		if (freeCount > 0)
+			handle = freeRows[--freeCount];
+		else {
+			if (rows == processIDs.length)
+				grow();
+			handle = rows++;
+		}
+
+		processIDs[handle] = processID;
+		arriveTimes[handle] = arriveTime;
+		burstTimes[handle] = burstTime;
+		priorities[handle] = priority;
+		cpuTimes[handle] = 0;
+		trackPriority(priority);
+
+		return handle;
+	}
+
+	/**
+	 * Releases the row of a process that is no longer needed. Only a recycling
+	 * table reuses the row; otherwise the process stays readable.
+	 *
+	 * @param handle the handle of the process.
+	 */
+	public void release(int handle) {
+		if (!recycling)
+			return;
+
+		if (freeCount == freeRows.length)
+			freeRows = Arrays.copyOf(freeRows, freeCount * 2);
+
+		freeRows[freeCount++] = handle;
+	}
+
+	/**
+	 * Retrieves the number of rows ever used. Every handle handed out so far
+	 * is less than this number.
+	 *
+	 * @return the number of rows ever used.
+	 */
+	public int rows() {
+		return rows;
+	}
+
+	/**
+	 * Retrieves the number of processes that have not been released.
+	 * @return the number of live processes.
+	 */
+	public int size() {
+		return rows - freeCount;
+	}
+
+	/**
+	 * Retrieves a {@code PCB} holding a copy of a row. Changes made to the
+	 * {@code PCB} are not made to the table.
+	 *
+	 * @param handle the handle of the process.
+	 * @return a copy of the process.
+	 */
+	public PCB copy(int handle) {
+		PCB process = new PCB(processIDs[handle], arriveTimes[handle],
+			burstTimes[handle], priorities[handle]);
+		process.setCpuTime(cpuTimes[handle]);
+
+		return process;
+	}
+
+	/**
+	 * Retrieves the process ID of a process.
+	 * @param handle the handle of the process.
+	 * @return the process ID of the process.
+	 */
+	public int getProcessID(int handle) {
+		return processIDs[handle];
+	}
+
+	/**
+	 * Retrieves the arrive time of a process.
+	 * @param handle the handle of the process.
+	 * @return the arrive time of the process.
+	 */
+	public int getArriveTime(int handle) {
+		return arriveTimes[handle];
+	}
+
+	/**
+	 * Retrieves the burst time of a process.
+	 * @param handle the handle of the process.
+	 * @return the burst time of the process.
+	 */
+	public int getBurstTime(int handle) {
+		return burstTimes[handle];
+	}
+
+	/**
+	 * Retrieves the priority of a process.
+	 * @param handle the handle of the process.
+	 * @return the priority of the process.
+	 */
+	public int getPriority(int handle) {
+		return priorities[handle];
+	}
+
+	/**
+	 * Retrieves the CPU time of a process.
+	 * @param handle the handle of the process.
+	 * @return the CPU time of the process.
+	 */
+	public int getCpuTime(int handle) {
+		return cpuTimes[handle];
+	}
+
+	/**
+	 * Sets the arrive time of a process.
+	 * @param handle     the handle of the process.
+	 * @param arriveTime the arrive time of the process.
+	 */
+	public void setArriveTime(int handle, int arriveTime) {
+		arriveTimes[handle] = arriveTime;
+	}
+
+	/**
+	 * Sets the burst time of a process.
+	 * @param handle    the handle of the process.
+	 * @param burstTime the burst time of the process.
+	 */
+	public void setBurstTime(int handle, int burstTime) {
+		burstTimes[handle] = burstTime;
+	}
+
+	/**
+	 * Sets the priority of a process.
+	 * @param handle   the handle of the process.
+	 * @param priority the priority of the process.
+	 */
+	public void setPriority(int handle, int priority) {
+		priorities[handle] = priority;
+		trackPriority(priority);
+	}
+
+	/**
+	 * Sets the CPU time of a process.
+	 * @param handle  the handle of the process.
+	 * @param cpuTime the CPU time of the process.
+	 */
+	public void setCpuTime(int handle, int cpuTime) {
+		cpuTimes[handle] = cpuTime;
+	}
+
+	/**
+	 * Adds CPU time to a process.
+	 * @param handle  the handle of the process.
+	 * @param cpuTime the CPU time to add.
+	 */
+	public void addCpuTime(int handle, int cpuTime) {
+		cpuTimes[handle] += cpuTime;
+	}
+
+	/**
+	 * Checks if the table reuses the rows of released processes. Processes
+	 * are then added while earlier ones are consumed, so unless
+	 * {@link #setPriorityBounds} was called the lowest and highest priorities
+	 * only cover the processes added so far.
+	 * @return true if the table is recycling.
+	 */
+	public boolean isRecycling() {
+		return recycling;
+	}
+
+	/**
+	 * Widens the range of priorities to the lowest and highest priorities of
+	 * every process that will be added, when they are known in advance.
+	 *
+	 * @param minPriority the lowest priority of the processes.
+	 * @param maxPriority the highest priority of the processes, less than the
+	 *                    lowest one if there are none.
+	 */
+	public void setPriorityBounds(int minPriority, int maxPriority) {
+		if (minPriority <= maxPriority) {
+			trackPriority(minPriority);
+			trackPriority(maxPriority);
+		}
+
+		priorityBounds = true;
+	}
+
+	/**
+	 * Checks if the lowest and highest priorities cover every process of the
+	 * table, including the ones a recycling table has not been given yet.
+	 * @return true if the range of priorities is final.
+	 */
+	public boolean knowsPriorityBounds() {
+		return !recycling || priorityBounds;
+	}
+
+	/**
+	 * Retrieves the lowest priority ever stored in the table.
+	 * @return the lowest priority, or {@code Integer.MAX_VALUE} if the table
+	 * never held a process.
+	 */
+	public int getMinPriority() {
+		return minPriority;
+	}
+
+	/**
+	 * Retrieves the highest priority ever stored in the table.
+	 * @return the highest priority, or {@code Integer.MIN_VALUE} if the table
+	 * never held a process.
+	 */
+	public int getMaxPriority() {
+		return maxPriority;
+	}
+
+	/**
+	 * Compares two processes by the natural order of {@code PCB}s: by arrive
+	 * time, then by process ID.
+	 *
+	 * @param h1 the handle of the first process.
+	 * @param h2 the handle of the second process.
+	 * @return a negative number, zero or a positive number if the first process
+	 * comes before, together with or after the second one.
+	 */
+	public int compareArrival(int h1, int h2) {
+		if (arriveTimes[h1] != arriveTimes[h2])
+			return Integer.compare(arriveTimes[h1], arriveTimes[h2]);
+
+		return Integer.compare(processIDs[h1], processIDs[h2]);
+	}
+
+	/**
+	 * Widens the range of priorities ever stored to include the given one.
+	 * @param priority the priority being stored.
+	 */
+	private void trackPriority(int priority) {
+		if (priority < minPriority)
+			minPriority = priority;
+		if (priority > maxPriority)
+			maxPriority = priority;
+	}
+
+	/**
+	 * Doubles the number of rows of every column.
+	 */
+	private void grow() {
+		int capacity = processIDs.length * 2;
+
+		processIDs = Arrays.copyOf(processIDs, capacity);
+		arriveTimes = Arrays.copyOf(arriveTimes, capacity);
+		burstTimes = Arrays.copyOf(burstTimes, capacity);
+		priorities = Arrays.copyOf(priorities, capacity);
+		cpuTimes = Arrays.copyOf(cpuTimes, capacity);
+	}
+}
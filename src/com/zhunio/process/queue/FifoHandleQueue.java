@@ -0,0 +1,73 @@
+package com.zhunio.process.queue;
+
+import java.util.Arrays;
+
+/**
+ * Created on 10/17/26.
+ *
+ * A first-in first-out queue of handles kept in a growable ring buffer.
+ */
+public class FifoHandleQueue implements HandleQueue {
+	/* The ring buffer, whose length is a power of two */
+	private int[] handles;
+
+	/* Position of the next handle */
+	private int head;
+
+	/* Number of handles in the queue */
+	private int size;
+
+	/**
+	 * Construct an empty queue.
+	 */
+	public FifoHandleQueue() {
+		this.handles = new int[16];
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int peek() {
+		return size == 0 ? NONE : handles[head];
+	}
+
+	@Override
+	public int poll() {
+		if (size == 0)
+			return NONE;
+
+		int handle = handles[head];
+		head = (head + 1) & (handles.length - 1);
+		size--;
+
+		return handle;
+	}
+
+	@Override
+	public void add(int handle) {
+		if (size == handles.length)
+			grow();
+
+		handles[(head + size) & (handles.length - 1)] = handle;
+		size++;
+	}
+
+	/**
+	 * Doubles the ring buffer, moving the handles to its start.
+	 */
+	private void grow() {
+		int[] grown = Arrays.copyOfRange(handles, head, head + handles.length * 2);
+		System.arraycopy(handles, 0, grown, handles.length - head, head);
+
+		handles = grown;
+		head = 0;
+	}
+}
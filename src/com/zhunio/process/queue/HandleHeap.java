@@ -0,0 +1,190 @@
+package com.zhunio.process.queue;
+
+import java.util.Arrays;
+
+/**
+ * Created on 10/17/26.
+ *
+ * A binary min-heap of process handles, each stored next to a packed
+ * {@code long} key in parallel primitive arrays. Handles with equal keys come
+ * out in no particular order, so keys should include a tie-break (see
+ * {@code HandleKey.pack}). Comparing two entries is a single {@code long}
+ * comparison; nothing is boxed and no comparator is called.
+ */
+public class HandleHeap implements HandleQueue {
+	/* Computes the key of a handle added without one */
+	private HandleKey key;
+
+	/* Keys of the heap entries */
+	private long[] keys;
+
+	/* Handles of the heap entries */
+	private int[] handles;
+
+	/* Number of entries in the heap */
+	private int size;
+
+	/**
+	 * Construct an empty heap whose handles can only be added with a key.
+	 */
+	public HandleHeap() {
+		this(null);
+	}
+
+	/**
+	 * Construct an empty heap.
+	 *
+	 * @param key computes the key of the handles added without one.
+	 */
+	public HandleHeap(HandleKey key) {
+		this.key = key;
+		this.keys = new long[16];
+		this.handles = new int[16];
+	}
+
+	/**
+	 * Construct a heap holding the given handles, heapified at once in O(n).
+	 * The arrays are used as is and must not be modified afterwards.
+	 *
+	 * @param key     computes the key of the handles added later.
+	 * @param handles the handles, in any order.
+	 * @param keys    the keys of the handles.
+	 * @param count   the number of handles in the arrays.
+	 */
+	public HandleHeap(HandleKey key, int[] handles, long[] keys, int count) {
+		this.key = key;
+		this.handles = handles.length == 0 ? new int[16] : handles;
+		this.keys = keys.length == 0 ? new long[16] : keys;
+		this.size = count;
+
+		for (int i = (size >>> 1) - 1; i >= 0; i--)
+			siftDown(i, this.keys[i], this.handles[i]);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int peek() {
+		return size == 0 ? NONE : handles[0];
+	}
+
+	/**
+	 * Retrieves the key of the handle at the head of the heap.
+	 * @return the key of the head, or {@code Long.MAX_VALUE} if empty.
+	 */
+	public long peekKey() {
+		return size == 0 ? Long.MAX_VALUE : keys[0];
+	}
+
+	@Override
+	public int poll() {
+		if (size == 0)
+			return NONE;
+
+		int head = handles[0];
+
+		if (--size > 0)
+			siftDown(0, keys[size], handles[size]);
+
+		return head;
+	}
+
+	/**
+	 * Adds a handle keyed by the {@code HandleKey} of this heap.
+	 *
+	 * @param handle the handle.
+	 */
+	@Override
+	public void add(int handle) {
+		if (key == null)
+			throw new UnsupportedOperationException("Handles of this heap need a key");
+
+		add(handle, key.key(handle));
+	}
+
+	/**
+	 * Adds a handle with the given key.
+	 *
+	 * @param handle the handle.
+	 * @param key    the key, lower keys come first.
+	 */
+	public void add(int handle, long key) {
+		if (size == handles.length) {
+			handles = Arrays.copyOf(handles, size * 2);
+			keys = Arrays.copyOf(keys, size * 2);
+		}
+
+		// Move the entry up from the bottom
+		int i = size++;
+
+		while (i > 0) {
+			int parent = (i - 1) >>> 1;
+
+			if (key >= keys[parent])
+				break;
+
+			keys[i] = keys[parent];
+			handles[i] = handles[parent];
+			i = parent;
+		}
+
+		keys[i] = key;
+		handles[i] = handle;
+	}
+
+	/**
+	 * Removes every entry, leaving their handles and keys in the given arrays
+	 * in ascending order of key. Used to renumber keys.
+	 *
+	 * @param handles receives the handles, at least {@code size()} long.
+	 * @param keys    receives the keys, at least {@code size()} long.
+	 * @return the number of entries removed.
+	 */
+	public int drain(int[] handles, long[] keys) {
+		int count = size;
+
+		for (int i = 0; i < count; i++) {
+			keys[i] = this.keys[0];
+			handles[i] = poll();
+		}
+
+		return count;
+	}
+
+	/**
+	 * Moves an entry down from the given position until its key is not
+	 * greater than the keys of its children.
+	 *
+	 * @param i      the position.
+	 * @param key    the key of the entry to place.
+	 * @param handle the handle of the entry to place.
+	 */
+	private void siftDown(int i, long key, int handle) {
+		int half = size >>> 1;
+
+		while (i < half) {
+			int child = 2 * i + 1;
+
+			if (child + 1 < size && keys[child + 1] < keys[child])
+				child++;
+
+			if (key <= keys[child])
+				break;
+
+			keys[i] = keys[child];
+			handles[i] = handles[child];
+			i = child;
+		}
+
+		keys[i] = key;
+		handles[i] = handle;
+	}
+}
@@ -0,0 +1,53 @@
+package com.zhunio.process.queue;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Computes the key a {@code HandleHeap} orders a process handle by. The key
+ * is computed once when the handle is added, so comparisons inside the heap
+ * are plain {@code long} comparisons.
+ */
+@FunctionalInterface
+public interface HandleKey {
+
+	/**
+	 * Computes the key of a process handle.
+	 *
+	 * @param handle the handle.
+	 * @return the key, lower keys come first.
+	 */
+	long key(int handle);
+
+	/**
+	 * Packs a primary order and a tie-break into a single key ordering by the
+	 * primary order first, then by the tie-break. Both are compared as signed
+	 * {@code int}s.
+	 *
+	 * @param primary  the primary order, such as an arrive time or priority.
+	 * @param tieBreak the tie-break, such as a process ID or sequence number.
+	 * @return the packed key.
+	 */
+	static long pack(int primary, int tieBreak) {
+		return ((long) primary << 32) | ((tieBreak ^ Integer.MIN_VALUE) & 0xFFFFFFFFL);
+	}
+
+	/**
+	 * Unpacks the primary order of a key.
+	 *
+	 * @param key the packed key.
+	 * @return the primary order.
+	 */
+	static int primary(long key) {
+		return (int) (key >> 32);
+	}
+
+	/**
+	 * Unpacks the tie-break of a key.
+	 *
+	 * @param key the packed key.
+	 * @return the tie-break.
+	 */
+	static int tieBreak(long key) {
+		return (int) key ^ Integer.MIN_VALUE;
+	}
+}
@@ -0,0 +1,50 @@
+package com.zhunio.process.queue;
+
+/**
+ * Created on 10/17/26.
+ *
+ * A queue of process handles, the rows of a {@code ProcessTable} holding the
+ * processes. Handles are plain {@code int}s, so no object is allocated per
+ * process while queueing them.
+ */
+public interface HandleQueue {
+	/* Returned by peek and poll when the queue is empty */
+	int NONE = -1;
+
+	/**
+	 * Checks if the queue holds no handles.
+	 * @return true if the queue is empty.
+	 */
+	boolean isEmpty();
+
+	/**
+	 * Retrieves the number of handles in the queue.
+	 * @return the number of handles in the queue.
+	 */
+	int size();
+
+	/**
+	 * Retrieves, without removing, the handle at the head of the queue.
+	 * @return the handle at the head of the queue, or {@code NONE} if empty.
+	 */
+	int peek();
+
+	/**
+	 * Retrieves and removes the handle at the head of the queue.
+	 * @return the handle at the head of the queue, or {@code NONE} if empty.
+	 */
+	int poll();
+
+	/**
+	 * Inserts a handle into the queue.
+	 * @param handle the handle.
+	 */
+	void add(int handle);
+
+	/**
+	 * Releases what the queue holds besides memory, such as a thread feeding
+	 * it. The queue is not used afterwards. Nothing to release by default.
+	 */
+	default void close() {
+	}
+}
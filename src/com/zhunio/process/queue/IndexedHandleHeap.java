@@ -0,0 +1,260 @@
+package com.zhunio.process.queue;
+
+import java.util.Arrays;
+
+/**
+ * Created on 10/17/26.
+ *
+ * A binary min-heap of process handles with packed {@code long} keys, like
+ * {@code HandleHeap}, that also keeps the position of every handle in a
+ * column indexed by handle. The key of a handle in the heap can then be
+ * changed, and a handle removed, in O(log n) rather than by searching the
+ * heap. A handle can be in the heap at most once.
+ */
+public class IndexedHandleHeap implements HandleQueue {
+	/* Position of a handle not in the heap */
+	private static final int ABSENT = -1;
+
+	/* Keys of the heap entries */
+	private long[] keys;
+
+	/* Handles of the heap entries */
+	private int[] handles;
+
+	/* Position of each handle in the heap, ABSENT if not in the heap */
+	private int[] positions;
+
+	/* Number of entries in the heap */
+	private int size;
+
+	/**
+	 * Construct an empty heap.
+	 */
+	public IndexedHandleHeap() {
+		this.keys = new long[16];
+		this.handles = new int[16];
+		this.positions = new int[16];
+
+		Arrays.fill(positions, ABSENT);
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int peek() {
+		return size == 0 ? NONE : handles[0];
+	}
+
+	/**
+	 * Retrieves the key of the handle at the head of the heap.
+	 * @return the key of the head, or {@code Long.MAX_VALUE} if empty.
+	 */
+	public long peekKey() {
+		return size == 0 ? Long.MAX_VALUE : keys[0];
+	}
+
+	@Override
+	public int poll() {
+		if (size == 0)
+			return NONE;
+
+		int head = handles[0];
+		removeAt(0);
+
+		return head;
+	}
+
+	/**
+	 * Handles of an indexed heap need a key.
+	 *
+	 * @param handle the handle.
+	 */
+	@Override
+	public void add(int handle) {
+		throw new UnsupportedOperationException("Handles of an indexed heap need a key");
+	}
+
+	/**
+	 * Adds a handle with the given key.
+	 *
+	 * @param handle the handle, not in the heap already.
+	 * @param key    the key, lower keys come first.
+	 */
+	public void add(int handle, long key) {
+		if (contains(handle))
+			throw new IllegalArgumentException("Handle " + handle + " is already in the heap");
+
+		if (handle >= positions.length) {
+			int length = positions.length;
+			positions = Arrays.copyOf(positions, Math.max(handle + 1, length * 2));
+			Arrays.fill(positions, length, positions.length, ABSENT);
+		}
+
+		if (size == handles.length) {
+			handles = Arrays.copyOf(handles, size * 2);
+			keys = Arrays.copyOf(keys, size * 2);
+		}
+
+		siftUp(size++, key, handle);
+	}
+
+	/**
+	 * Checks if a handle is in the heap.
+	 *
+	 * @param handle the handle.
+	 * @return true if the handle is in the heap.
+	 */
+	public boolean contains(int handle) {
+		return handle >= 0 && handle < positions.length && positions[handle] != ABSENT;
+	}
+
+	/**
+	 * Retrieves the key of a handle in the heap.
+	 *
+	 * @param handle the handle, which must be in the heap.
+	 * @return the key of the handle.
+	 */
+	public long keyOf(int handle) {
+		return keys[positions[handle]];
+	}
+
+	/**
+	 * Changes the key of a handle in the heap, in O(log n).
+	 *
+	 * @param handle the handle, which must be in the heap.
+	 * @param key    the new key.
+	 */
+	public void changeKey(int handle, long key) {
+		int i = positions[handle];
+
+		if (key < keys[i])
+			siftUp(i, key, handle);
+		else
+			siftDown(i, key, handle);
+	}
+
+	/**
+	 * Removes a handle from the heap, in O(log n).
+	 *
+	 * @param handle the handle.
+	 * @return true if the handle was in the heap.
+	 */
+	public boolean remove(int handle) {
+		if (!contains(handle))
+			return false;
+
+		removeAt(positions[handle]);
+
+		return true;
+	}
+
+	/**
+	 * Removes every entry, leaving their handles and keys in the given arrays
+	 * in ascending order of key. Used to renumber keys.
+	 *
+	 * @param handles receives the handles, at least {@code size()} long.
+	 * @param keys    receives the keys, at least {@code size()} long.
+	 * @return the number of entries removed.
+	 */
+	public int drain(int[] handles, long[] keys) {
+		int count = size;
+
+		for (int i = 0; i < count; i++) {
+			keys[i] = this.keys[0];
+			handles[i] = poll();
+		}
+
+		return count;
+	}
+
+	/**
+	 * Removes the entry at the given position, filling the hole with the
+	 * last entry.
+	 *
+	 * @param i the position.
+	 */
+	private void removeAt(int i) {
+		positions[handles[i]] = ABSENT;
+
+		if (--size == i)
+			return;
+
+		long key = keys[size];
+		int handle = handles[size];
+
+		if (i > 0 && key < keys[(i - 1) >>> 1])
+			siftUp(i, key, handle);
+		else
+			siftDown(i, key, handle);
+	}
+
+	/**
+	 * Moves an entry up from the given position until its key is not less
+	 * than the key of its parent.
+	 *
+	 * @param i      the position.
+	 * @param key    the key of the entry to place.
+	 * @param handle the handle of the entry to place.
+	 */
+	private void siftUp(int i, long key, int handle) {
+		while (i > 0) {
+			int parent = (i - 1) >>> 1;
+
+			if (key >= keys[parent])
+				break;
+
+			place(i, keys[parent], handles[parent]);
+			i = parent;
+		}
+
+		place(i, key, handle);
+	}
+
+	/**
+	 * Moves an entry down from the given position until its key is not
+	 * greater than the keys of its children.
+	 *
+	 * @param i      the position.
+	 * @param key    the key of the entry to place.
+	 * @param handle the handle of the entry to place.
+	 */
+	private void siftDown(int i, long key, int handle) {
+		int half = size >>> 1;
+
+		while (i < half) {
+			int child = 2 * i + 1;
+
+			if (child + 1 < size && keys[child + 1] < keys[child])
+				child++;
+
+			if (key <= keys[child])
+				break;
+
+			place(i, keys[child], handles[child]);
+			i = child;
+		}
+
+		place(i, key, handle);
+	}
+
+	/**
+	 * Stores an entry at the given position and records its position.
+	 *
+	 * @param i      the position.
+	 * @param key    the key of the entry.
+	 * @param handle the handle of the entry.
+	 */
+	private void place(int i, long key, int handle) {
+		keys[i] = key;
+		handles[i] = handle;
+		positions[handle] = i;
+	}
+}
@@ -0,0 +1,171 @@
+package com.zhunio.process.queue;
+
+import com.zhunio.process.ProcessTable;
+
+import java.util.Arrays;
+
+/**
+ * Created on 10/17/26.
+ *
+ * A run queue over a bounded range of priorities, modeled on the O(1)
+ * scheduler. Each priority level has its own first-in first-out bucket and
+ * a bitmap marks the levels that are not empty, so both adding a handle and
+ * polling the lowest priority take constant time. The buckets are linked
+ * lists threaded through a column indexed by handle, so no node is allocated
+ * per process.
+ *
+ * The bitmap has two levels: one bit per priority level and one summary bit
+ * per word of the bitmap, which bounds the range to {@code MAX_LEVELS}.
+ */
+public class PriorityBuckets implements HandleQueue {
+	/* Largest number of priority levels supported */
+	public static final int MAX_LEVELS = 64 * 64;
+
+	/* Table storing the processes */
+	private ProcessTable table;
+
+	/* Priority of the first level */
+	private int base;
+
+	/* Number of priority levels */
+	private int levels;
+
+	/* First handle of each level, NONE if empty */
+	private int[] heads;
+
+	/* Last handle of each level */
+	private int[] tails;
+
+	/* Next handle in the same level, by handle */
+	private int[] next;
+
+	/* One bit per level, set if the level is not empty */
+	private long[] bitmap;
+
+	/* One bit per word of the bitmap, set if the word is not zero */
+	private long summary;
+
+	/* Number of handles in the queue */
+	private int size;
+
+	/**
+	 * Construct an empty run queue for the given range of priorities.
+	 *
+	 * @param table       the table storing the processes.
+	 * @param minPriority the lowest priority of the range.
+	 * @param maxPriority the highest priority of the range.
+	 */
+	public PriorityBuckets(ProcessTable table, int minPriority, int maxPriority) {
+		if (!fits(minPriority, maxPriority))
+			throw new IllegalArgumentException("Cannot bucket priorities "
+				+ minPriority + " to " + maxPriority);
+
+		this.table = table;
+		this.base = minPriority;
+		this.levels = maxPriority - minPriority + 1;
+		this.heads = new int[levels];
+		this.tails = new int[levels];
+		this.next = new int[Math.max(16, table.rows())];
+		this.bitmap = new long[(levels + 63) >>> 6];
+
+		Arrays.fill(heads, NONE);
+	}
+
+	/**
+	 * Checks if a range of priorities is small enough to be bucketed.
+	 *
+	 * @param minPriority the lowest priority of the range.
+	 * @param maxPriority the highest priority of the range.
+	 * @return true if the range has at most {@code MAX_LEVELS} priorities.
+	 */
+	public static boolean fits(int minPriority, int maxPriority) {
+		return minPriority <= maxPriority && (long) maxPriority - minPriority < MAX_LEVELS;
+	}
+
+	/**
+	 * Checks if a priority falls in the range of this run queue.
+	 *
+	 * @param priority the priority.
+	 * @return true if handles of this priority can be added.
+	 */
+	public boolean accepts(int priority) {
+		return priority >= base && (long) priority - base < levels;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	@Override
+	public int peek() {
+		return size == 0 ? NONE : heads[lowestLevel()];
+	}
+
+	@Override
+	public int poll() {
+		if (size == 0)
+			return NONE;
+
+		int level = lowestLevel();
+		int handle = heads[level];
+
+		heads[level] = next[handle];
+
+		// Clear the bits of a level that became empty
+		if (heads[level] == NONE) {
+			int word = level >>> 6;
+			bitmap[word] &= ~(1L << level);
+			if (bitmap[word] == 0)
+				summary &= ~(1L << word);
+		}
+
+		size--;
+
+		return handle;
+	}
+
+	/**
+	 * Adds a handle to the back of the level of its priority.
+	 *
+	 * @param handle the handle, whose priority must be accepted.
+	 */
+	@Override
+	public void add(int handle) {
+		int priority = table.getPriority(handle);
+		if (!accepts(priority))
+			throw new IllegalArgumentException("Priority " + priority
+				+ " is out of the bucketed range");
+
+		if (handle >= next.length)
+			next = Arrays.copyOf(next, Math.max(handle + 1, next.length * 2));
+
+		int level = priority - base;
+		next[handle] = NONE;
+
+		if (heads[level] == NONE) {
+			heads[level] = handle;
+			bitmap[level >>> 6] |= 1L << level;
+			summary |= 1L << (level >>> 6);
+		} else
+			next[tails[level]] = handle;
+
+		tails[level] = handle;
+		size++;
+	}
+
+	/**
+	 * Finds the lowest level that is not empty. The queue must not be empty.
+	 * @return the lowest level that is not empty.
+	 */
+	private int lowestLevel() {
+		int word = Long.numberOfTrailingZeros(summary);
+
+		return (word << 6) + Long.numberOfTrailingZeros(bitmap[word]);
+	}
+}
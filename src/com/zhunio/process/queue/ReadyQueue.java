@@ -1,36 +1,146 @@
 package com.zhunio.process.queue;
 
-import java.util.PriorityQueue;
+import com.zhunio.process.PCB;
+import com.zhunio.process.ProcessTable;
 
 /**
  * Created on 10/7/17.
  *
  * Represents a {@code ReadyQueue} that contains a list of processes ready to be
- * executed by the CPU.
+ * executed by the CPU. The processes are stored in a {@code ProcessTable} and
+ * referred to by their handles, which are kept in a backing queue that hands
+ * them out in order of arrival: a heap by default, or a cheaper structure
+ * when the processes are known to come sorted.
  *
  * @author Richard I. Zhunio
  */
-public class ReadyQueue<PCB> extends PriorityQueue<PCB> {
+public class ReadyQueue implements AutoCloseable {
 	/* Describes if this queue is supposed to be preemptive or not */
 	private boolean preemption;
 
 	/* If preemption is set, quantum time is used. */
 	private int quantumTime;
 
+	/* Table storing the processes */
+	private ProcessTable table;
+
+	/* Handles of the processes, handed out in order of arrival */
+	private HandleQueue processes;
+
 	/**
 	 * Construct a ready queue with no preemption and quantum
 	 * time.
 	 */
 	public ReadyQueue(boolean preemption, int quantumTime) {
+		this(preemption, quantumTime, new ProcessTable(16));
+	}
 
-		// Initialize a priority queue
-		super();
+	/**
+	 * Construct an empty ready queue over the given table.
+	 */
+	private ReadyQueue(boolean preemption, int quantumTime, ProcessTable table) {
 
+		// Initialize a heap ordered by arrive time
+		this(preemption, quantumTime, table, new HandleHeap(arrivalKey(table)));
+	}
+
+	/**
+	 * Construct a ready queue over the given backing queue, which must hand
+	 * out the handles in order of arrival.
+	 *
+	 * @param preemption  true for preemptive, false otherwise.
+	 * @param quantumTime the quantum time.
+	 * @param table       the table storing the processes.
+	 * @param processes   the backing queue of the handles.
+	 */
+	public ReadyQueue(boolean preemption, int quantumTime, ProcessTable table,
+					  HandleQueue processes) {
 		this.preemption = preemption;
 		this.quantumTime = quantumTime;
+		this.table = table;
+		this.processes = processes;
+	}
+
+	/**
+	 * Adds a copy of the given process to this {@code ReadyQueue}. The
+	 * attributes are copied into the table, so changes later made to the
+	 * {@code PCB} are not seen by the queue; use the returned handle with
+	 * {@link #getProcessTable()} instead.
+	 *
+	 * @param process the process.
+	 * @return the handle of the process in the table.
+	 */
+	public int add(PCB process) {
+		int handle = table.add(process.getProcessID(), process.getArriveTime(),
+			process.getBurstTime(), process.getPriority());
+		table.setCpuTime(handle, process.getCpuTime());
+
+		processes.add(handle);
+
+		return handle;
+	}
+
+	/**
+	 * Retrieves and removes the handle of the next process to arrive.
+	 * @return the handle, or {@code HandleQueue.NONE} if empty.
+	 */
+	public int poll() {
+		return processes.poll();
+	}
 
+	/**
+	 * Retrieves, without removing, the handle of the next process to arrive.
+	 * @return the handle, or {@code HandleQueue.NONE} if empty.
+	 */
+	public int peek() {
+		return processes.peek();
+	}
+
+	/**
+	 * Checks if every process has been taken.
+	 * @return true if no process is left.
+	 */
+	public boolean isEmpty() {
+		return processes.isEmpty();
+	}
+
+	/**
+	 * Retrieves the number of processes left.
+	 * @return the number of processes left.
+	 */
+	public int size() {
+		return processes.size();
+	}
+
+	/**
+	 * Releases the backing queue, stopping the thread feeding a streamed job
+	 * pool if the simulation ended before reading all of it. The ready queue
+	 * is not used afterwards.
+	 */
+	@Override
+	public void close() {
+		processes.close();
 	}
 
+	/**
+	 * Retrieves the table storing the processes.
+	 * @return the table storing the processes.
+	 */
+	public ProcessTable getProcessTable() {
+		return table;
+	}
+
+	/**
+	 * Keys processes by arrive time, then by process ID, which is the natural
+	 * order of {@code PCB}s.
+	 *
+	 * @param table the table storing the processes.
+	 * @return the key of the processes in a {@code HandleHeap}.
+	 */
+	public static HandleKey arrivalKey(ProcessTable table) {
+		return handle -> HandleKey.pack(table.getArriveTime(handle),
+			table.getProcessID(handle));
+	}
 
 	/**
 	 * Checks if this {@code ReadyQueue} is suppose to be run by a preemptive
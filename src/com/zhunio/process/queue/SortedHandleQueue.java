@@ -0,0 +1,79 @@
+package com.zhunio.process.queue;
+
+/**
+ * Created on 10/17/26.
+ *
+ * A read-only queue over handles that are already sorted. Rather than a
+ * heap, the handles are kept in a plain array with a cursor on the next
+ * one, so {@code peek} and {@code poll} take O(1). Handles cannot be added
+ * once the queue is created.
+ */
+public class SortedHandleQueue implements HandleQueue {
+	/* The handles in sorted order, null for the handles 0..tail-1 */
+	private int[] handles;
+
+	/* Position of the next handle */
+	private int head;
+
+	/* Position past the last handle */
+	private int tail;
+
+	/**
+	 * Construct a queue over the handles {@code 0..count-1}, which are
+	 * sorted. No array is needed to hold them.
+	 *
+	 * @param count the number of handles.
+	 */
+	public SortedHandleQueue(int count) {
+		this(null, count);
+	}
+
+	/**
+	 * Construct a queue over sorted handles. The array is used as is and
+	 * must not be modified afterwards.
+	 *
+	 * @param handles the handles, in sorted order.
+	 * @param count   the number of handles in the array.
+	 */
+	public SortedHandleQueue(int[] handles, int count) {
+		this.handles = handles;
+		this.head = 0;
+		this.tail = count;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return head == tail;
+	}
+
+	@Override
+	public int size() {
+		return tail - head;
+	}
+
+	@Override
+	public int peek() {
+		if (head == tail)
+			return NONE;
+
+		return handles == null ? head : handles[head];
+	}
+
+	@Override
+	public int poll() {
+		if (head == tail)
+			return NONE;
+
+		return handles == null ? head++ : handles[head++];
+	}
+
+	/**
+	 * Handles cannot be added to a sorted handle queue.
+	 *
+	 * @param handle the handle.
+	 */
+	@Override
+	public void add(int handle) {
+		throw new UnsupportedOperationException("Cannot add to a sorted handle queue");
+	}
+}
@@ -0,0 +1,247 @@
+package com.zhunio.process.queue;
+
+import com.zhunio.process.ProcessTable;
+
+import java.util.Arrays;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Created on 10/17/26.
+ *
+ * A queue filled by a producer thread while the processes are consumed,
+ * used as the backing queue of a {@code ReadyQueue}. The producer hands
+ * processes over in batches of plain {@code int} records through a bounded
+ * buffer, so only a bounded number of processes that have not arrived yet
+ * are held in memory. The processes must be put in order of arrive time;
+ * the queue keeps that order instead of sorting them.
+ *
+ * A process is only added to the {@code ProcessTable} when the consumer
+ * reaches it, so the table is touched by the consumer thread only. With a
+ * recycling table the rows of finished processes are reused.
+ *
+ * Only {@code isEmpty}, {@code peek} and {@code poll} are supported on the
+ * consumer side, and they block until the producer has put the next process
+ * or finished. A consumer that stops early closes the queue, so a producer
+ * waiting for room is released and fails on its next batch instead of
+ * blocking forever.
+ */
+public class StreamingQueue implements HandleQueue {
+	/* Number of processes handed over at once */
+	private static final int BATCH_SIZE = 1024;
+
+	/* Number of batches the buffer holds */
+	private static final int BUFFER_SIZE = 64;
+
+	/* Number of ints per process: ID, arrive time, burst time and priority */
+	private static final int RECORD = 4;
+
+	/* Marks the end of the processes */
+	private static final int[] END = new int[0];
+
+	/* Table the consumed processes are added to */
+	private ProcessTable table;
+
+	/* Batches put by the producer and not taken by the consumer yet */
+	private BlockingQueue<int[]> buffer;
+
+	/* Batch being filled by the producer */
+	private int[] putBatch;
+
+	/* Number of ints in the batch being filled */
+	private int putCount;
+
+	/* Arrive time of the last process put */
+	private int lastArriveTime;
+
+	/* Batch being consumed */
+	private int[] takeBatch;
+
+	/* Position of the next record in the batch being consumed */
+	private int takeIndex;
+
+	/* Handle of the process at the head, NONE if not added to the table yet */
+	private int head;
+
+	/* Whether the end of the processes has been taken */
+	private boolean ended;
+
+	/* Error found by the producer, if any */
+	private volatile Exception error;
+
+	/* Whether the consumer has stopped taking processes */
+	private volatile boolean closed;
+
+	/**
+	 * Construct a streaming queue.
+	 *
+	 * @param table the table the consumed processes are added to.
+	 */
+	public StreamingQueue(ProcessTable table) {
+		this.table = table;
+		this.buffer = new ArrayBlockingQueue<>(BUFFER_SIZE);
+		this.putBatch = new int[BATCH_SIZE * RECORD];
+		this.lastArriveTime = Integer.MIN_VALUE;
+		this.takeBatch = END;
+		this.head = NONE;
+	}
+
+	/**
+	 * Puts the next process. Called by the producer only.
+	 *
+	 * @param processID  the process ID.
+	 * @param arriveTime the arrive time, not before the previous one.
+	 * @param burstTime  the burst time.
+	 * @param priority   the priority.
+	 * @throws Exception if the process arrives before the previous one, or
+	 *                   the queue was closed.
+	 */
+	public void put(int processID, int arriveTime, int burstTime, int priority)
+		throws Exception {
+		if (arriveTime < lastArriveTime)
+			throw new Exception("Job pool is not sorted by arrive time at process P"
+				+ processID);
+		lastArriveTime = arriveTime;
+
+		putBatch[putCount++] = processID;
+		putBatch[putCount++] = arriveTime;
+		putBatch[putCount++] = burstTime;
+		putBatch[putCount++] = priority;
+
+		if (putCount == putBatch.length) {
+			if (closed)
+				throw new Exception("Job pool no longer read, the simulation ended");
+
+			hand(putBatch);
+			putBatch = new int[BATCH_SIZE * RECORD];
+			putCount = 0;
+		}
+	}
+
+	/**
+	 * Signals that every process has been put. Called by the producer only.
+	 *
+	 * @throws InterruptedException if interrupted while waiting for room.
+	 */
+	public void finish() throws InterruptedException {
+		if (putCount > 0)
+			hand(Arrays.copyOf(putBatch, putCount));
+
+		hand(END);
+	}
+
+	/**
+	 * Signals that the producer failed. The consumer gets the error once it
+	 * reaches the end of the processes put so far. Called by the producer
+	 * only.
+	 *
+	 * @param error the error.
+	 * @throws InterruptedException if interrupted while waiting for room.
+	 */
+	public void fail(Exception error) throws InterruptedException {
+		this.error = error;
+		finish();
+	}
+
+	/**
+	 * Stops taking processes. A producer waiting for room is released, its
+	 * next batch fails, and whatever it still hands over is dropped. Called
+	 * by the consumer only.
+	 */
+	@Override
+	public void close() {
+		closed = true;
+
+		// Set before clearing: a producer that missed it finds room, and
+		// sees it on its next batch
+		buffer.clear();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return peek() == NONE;
+	}
+
+	@Override
+	public int peek() {
+		if (head == NONE && advance()) {
+			int[] batch = takeBatch;
+			int i = takeIndex;
+
+			head = table.add(batch[i], batch[i + 1], batch[i + 2], batch[i + 3]);
+			takeIndex += RECORD;
+		}
+
+		return head;
+	}
+
+	@Override
+	public int poll() {
+		int handle = peek();
+		head = NONE;
+
+		return handle;
+	}
+
+	/**
+	 * Retrieves the number of processes in the batch being consumed.
+	 * @return the number of processes ready to be taken without blocking.
+	 */
+	@Override
+	public int size() {
+		return (takeBatch.length - takeIndex) / RECORD + (head == NONE ? 0 : 1);
+	}
+
+	/**
+	 * Processes can only be added through {@code put}.
+	 *
+	 * @param handle the handle.
+	 */
+	@Override
+	public void add(int handle) {
+		throw new UnsupportedOperationException("Use put on a streaming queue");
+	}
+
+	/**
+	 * Hands a batch over to the consumer, waiting for room, unless the queue
+	 * was closed.
+	 *
+	 * @param batch the batch.
+	 * @throws InterruptedException if interrupted while waiting for room.
+	 */
+	private void hand(int[] batch) throws InterruptedException {
+		if (!closed)
+			buffer.put(batch);
+	}
+
+	/**
+	 * Makes sure the batch being consumed has a next process, waiting for the
+	 * producer if needed.
+	 *
+	 * @return true if there is a next process, false at the end.
+	 */
+	private boolean advance() {
+		while (takeIndex == takeBatch.length) {
+
+			// Every process has been consumed
+			if (ended) {
+				if (error != null)
+					throw new IllegalStateException(error.getMessage(), error);
+
+				return false;
+			}
+
+			try {
+				takeBatch = buffer.take();
+				takeIndex = 0;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new IllegalStateException("Interrupted while waiting for the job pool", e);
+			}
+
+			ended = takeBatch == END;
+		}
+
+		return true;
+	}
+}
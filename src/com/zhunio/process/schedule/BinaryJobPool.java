@@ -0,0 +1,315 @@
+package com.zhunio.process.schedule;
+
+import com.zhunio.process.ProcessTable;
+import com.zhunio.process.queue.ReadyQueue;
+
+import java.io.Closeable;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Loads and writes job pools in a compact binary format. All values are
+ * little-endian ints:
+ *
+ * 'J' 'P' 'B' '1'	(magic bytes)
+ * n			(# of processes)
+ * 1			(1 if preemptive, 0 otherwise)
+ * 4			(quantum time)
+ * a b c		(arrive time) (burst time) (priority), n times
+ *
+ * Process IDs are 1..n in record order, as in the text format. Loading,
+ * streaming and sorting map the disk file into memory and read the records
+ * without any text decoding.
+ */
+class BinaryJobPool {
+	/* Magic bytes at the start of a binary job pool */
+	private static final byte[] MAGIC = {'J', 'P', 'B', '1'};
+
+	/* Size of the header in bytes */
+	static final int HEADER_SIZE = 16;
+
+	/* Size of a process record in bytes */
+	static final int RECORD_SIZE = 12;
+
+	/* Number of records mapped at once */
+	private static final int RECORDS_PER_MAP = (1 << 30) / RECORD_SIZE;
+
+	/**
+	 * Checks if a disk file starts with the magic bytes of a binary job pool.
+	 *
+	 * @param file the file to check.
+	 * @return true if the disk file is a binary job pool.
+	 * @throws IOException if file is not found or cannot be read.
+	 */
+	static boolean isBinary(String file) throws IOException {
+		try (FileChannel channel = new FileInputStream(file).getChannel()) {
+			ByteBuffer magic = ByteBuffer.allocate(MAGIC.length);
+			channel.read(magic, 0);
+
+			if (magic.position() != MAGIC.length)
+				return false;
+
+			for (int i = 0; i < MAGIC.length; i++)
+				if (magic.get(i) != MAGIC[i])
+					return false;
+
+			return true;
+		}
+	}
+
+	/**
+	 * Loads a binary job pool into a ready queue.
+	 *
+	 * @param file the file to load.
+	 * @return A {@code ReadyQueue}.
+	 * @throws Exception if the header or the size of the disk file is invalid.
+	 */
+	static ReadyQueue load(String file) throws Exception {
+
+		try (Reader reader = new Reader(file)) {
+			reader.readHeader();
+
+			ReadyQueueBuilder builder = new ReadyQueueBuilder(reader.isPreemptive(),
+				reader.getQuantumTime(), reader.processNo);
+			reader.readProcesses(builder);
+
+			return builder.build();
+		}
+	}
+
+	/**
+	 * Reads a binary job pool straight from its memory-mapped records, a
+	 * bounded region at a time, so the processes can also be streamed or
+	 * sorted without loading the whole job pool.
+	 */
+	static class Reader extends JobPoolReader {
+		/* Path to the disk file */
+		private String file;
+
+		/* Channel of the disk file */
+		private FileChannel channel;
+
+		/* Number of processes stated by the disk file */
+		private int processNo;
+
+		/* Whether the disk file asks for preemption */
+		private boolean preemption;
+
+		/* Quantum time stated by the disk file */
+		private int quantumTime;
+
+		/**
+		 * Opens a binary job pool.
+		 *
+		 * @param file the file to read.
+		 * @throws IOException if file is not found or cannot be read.
+		 */
+		Reader(String file) throws IOException {
+			this.file = file;
+			this.channel = new FileInputStream(file).getChannel();
+		}
+
+		/**
+		 * Reads the header, and checks that the disk file holds as many
+		 * records as it states.
+		 *
+		 * @throws Exception if the header or the size of the disk file is
+		 *                   invalid.
+		 */
+		@Override
+		void readHeader() throws Exception {
+
+			// Read the header
+			ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+				Math.min(HEADER_SIZE, channel.size())).order(ByteOrder.LITTLE_ENDIAN);
+
+			if (header.capacity() < HEADER_SIZE)
+				throw new Exception("Missing header of binary job pool: " + file);
+
+			processNo = header.getInt(4);
+			preemption = header.getInt(8) == 1;
+			quantumTime = header.getInt(12);
+
+			// Error occurs if an invalid number is entered
+			if (processNo < 0)
+				throw new Exception("No valid number of processes: " + processNo);
+
+			// Throw error if quantum time is 0
+			if (quantumTime == 0)
+				throw new Exception("Invalid quantum time: " + quantumTime);
+
+			// Error occurs if the number of processes does not equal
+			// the number of records in the disk file
+			long recordBytes = channel.size() - HEADER_SIZE;
+			if (recordBytes % RECORD_SIZE != 0)
+				throw new Exception("Missing process attributes on disk file: "
+					+ file);
+			checkProcessNo(recordBytes / RECORD_SIZE);
+		}
+
+		@Override
+		boolean isPreemptive() {
+			return preemption;
+		}
+
+		@Override
+		int getQuantumTime() {
+			return quantumTime;
+		}
+
+		@Override
+		long readProcesses(JobPoolParser.ProcessCollector collector) throws Exception {
+
+			// Map the records a bounded region at a time
+			int processID = 1;
+			while (processID <= processNo) {
+				IntBuffer content = map(processID);
+
+				for (int i = content.remaining() / 3; i > 0; i--, processID++)
+					collector.collect(processID, content.get(),
+						content.get(), content.get());
+			}
+
+			return processNo;
+		}
+
+		@Override
+		void checkProcessNo(long actualNo) throws Exception {
+			if (processNo != actualNo)
+				throw new Exception("Number of processes number: " + processNo + ", "
+					+ "does not equal actual number of processes in the ready queue: "
+					+ actualNo);
+		}
+
+		/**
+		 * Scans the priorities of the records, which takes no parsing, and
+		 * tells the table their range.
+		 *
+		 * @param table the table the processes will be added to.
+		 * @throws IOException if the disk file cannot be read.
+		 */
+		@Override
+		void boundPriorities(ProcessTable table) throws IOException {
+			int min = Integer.MAX_VALUE;
+			int max = Integer.MIN_VALUE;
+
+			int processID = 1;
+			while (processID <= processNo) {
+				IntBuffer content = map(processID);
+
+				for (int i = content.position() + 2; i < content.limit(); i += 3, processID++) {
+					int priority = content.get(i);
+					min = Math.min(min, priority);
+					max = Math.max(max, priority);
+				}
+			}
+
+			table.setPriorityBounds(min, max);
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+
+		/**
+		 * Maps the records from the given process on, at most
+		 * {@code RECORDS_PER_MAP} of them.
+		 *
+		 * @param processID the process ID of the first record.
+		 * @return the attributes of the mapped records.
+		 * @throws IOException if the disk file cannot be mapped.
+		 */
+		private IntBuffer map(int processID) throws IOException {
+			int records = Math.min(RECORDS_PER_MAP, processNo - processID + 1);
+			long position = HEADER_SIZE + (long) (processID - 1) * RECORD_SIZE;
+
+			return channel.map(FileChannel.MapMode.READ_ONLY,
+				position, (long) records * RECORD_SIZE)
+				.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer();
+		}
+	}
+
+	/**
+	 * Writes a binary job pool record by record.
+	 */
+	static class Writer implements Closeable {
+		/* Channel of the disk file */
+		private FileChannel channel;
+
+		/* Records not written yet */
+		private ByteBuffer buffer;
+
+		/**
+		 * Creates a new binary job pool and writes its header.
+		 *
+		 * @param file        the file to write.
+		 * @param processNo   the number of processes.
+		 * @param preemption  true for preemptive, false otherwise.
+		 * @param quantumTime the quantum time.
+		 * @throws IOException if the file cannot be written.
+		 */
+		Writer(String file, int processNo, boolean preemption, int quantumTime)
+			throws IOException {
+
+			channel = new FileOutputStream(file).getChannel();
+			buffer = ByteBuffer.allocateDirect(RECORD_SIZE * 8192)
+				.order(ByteOrder.LITTLE_ENDIAN);
+
+			buffer.put(MAGIC);
+			buffer.putInt(processNo);
+			buffer.putInt(preemption ? 1 : 0);
+			buffer.putInt(quantumTime);
+		}
+
+		/**
+		 * Writes the record of a single process.
+		 *
+		 * @param arriveTime the arrive time of the process.
+		 * @param burstTime  the burst time of the process.
+		 * @param priority   the priority of the process.
+		 * @throws IOException if the file cannot be written.
+		 */
+		void write(int arriveTime, int burstTime, int priority) throws IOException {
+			if (buffer.remaining() < RECORD_SIZE)
+				flush();
+
+			buffer.putInt(arriveTime);
+			buffer.putInt(burstTime);
+			buffer.putInt(priority);
+		}
+
+		/**
+		 * Writes the pending records and closes the file.
+		 *
+		 * @throws IOException if the file cannot be written.
+		 */
+		@Override
+		public void close() throws IOException {
+			try {
+				flush();
+			} finally {
+				channel.close();
+			}
+		}
+
+		/**
+		 * Writes the pending records.
+		 *
+		 * @throws IOException if the file cannot be written.
+		 */
+		private void flush() throws IOException {
+			buffer.flip();
+			while (buffer.hasRemaining())
+				channel.write(buffer);
+			buffer.clear();
+		}
+	}
+}
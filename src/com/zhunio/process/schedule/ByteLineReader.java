@@ -0,0 +1,235 @@
+package com.zhunio.process.schedule;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Arrays;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Reads lines of whitespace separated integers straight from bytes. The
+ * contents are either pulled from a {@code ReadableByteChannel} through a
+ * reusable {@code ByteBuffer}, or taken from a buffer already holding the
+ * whole input such as a memory-mapped file. Decoding a line allocates
+ * nothing, which keeps loading a large job pool cheap.
+ */
+class ByteLineReader implements Closeable {
+	/* Size of the buffer used when reading from a channel */
+	private static final int BUFFER_SIZE = 1 << 16;
+
+	/* Channel to read from, null if the buffer holds the whole input */
+	private ReadableByteChannel channel;
+
+	/* Bytes read but not consumed yet */
+	private ByteBuffer buffer;
+
+	/* Number of bytes consumed before the start of the buffer */
+	private long offset;
+
+	/* Whether the channel has no more bytes */
+	private boolean endOfInput;
+
+	/**
+	 * Creates a new {@code ByteLineReader} that reads from a channel.
+	 *
+	 * @param channel the channel to read from.
+	 */
+	ByteLineReader(ReadableByteChannel channel) {
+		this.channel = channel;
+		this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		this.buffer.flip();
+	}
+
+	/**
+	 * Creates a new {@code ByteLineReader} over the remaining bytes of a
+	 * buffer.
+	 *
+	 * @param buffer   the buffer holding the whole input.
+	 * @param position the position of the first remaining byte within the
+	 *                 input, used to report errors.
+	 */
+	ByteLineReader(ByteBuffer buffer, long position) {
+		this.buffer = buffer;
+		this.offset = position - buffer.position();
+		this.endOfInput = true;
+	}
+
+	/**
+	 * Checks if there is another line to read. As with a {@code Scanner}, the
+	 * terminator of the last line is optional.
+	 *
+	 * @return true if there is another line.
+	 * @throws IOException if the channel cannot be read.
+	 */
+	boolean hasNextLine() throws IOException {
+		return buffer.hasRemaining() || fill();
+	}
+
+	/**
+	 * Parse the integers of the next line into an array. Whatever follows
+	 * once the array is full is ignored without being decoded, as it was by
+	 * the {@code Scanner} this reader replaces. Current size of the array
+	 * could be different than actual size of the array.
+	 *
+	 * @param content the array to fill.
+	 * @return the current size of the array.
+	 * @throws Exception if there is no next line or a value is not an integer.
+	 */
+	int parseLine(int[] content) throws Exception {
+
+		// ERROR if there is not a next line to parse
+		if (!hasNextLine())
+			throw new Exception("Expecting to parse next line. However, "
+				+ "not next line available.");
+
+		// Size of the array to fill
+		final int SIZE = content.length;
+
+		int currentSize = 0;
+		int b = next();
+
+		while (b != '\n' && b != -1) {
+
+			// Skip the whitespace between values
+			if (isWhitespace(b)) {
+				b = next();
+				continue;
+			}
+
+			// Skip the rest of the line once the array is full
+			if (currentSize == SIZE) {
+				while (b != '\n' && b != -1)
+					b = next();
+				break;
+			}
+
+			// Read the sign of the value
+			boolean negative = b == '-';
+			if (b == '-' || b == '+')
+				b = next();
+
+			// Accumulate the digits of the value as a negative number, which
+			// also covers Integer.MIN_VALUE
+			long value = 0;
+			int digits = 0;
+			while (b >= '0' && b <= '9') {
+				value = value * 10 - (b - '0');
+				if (value < Integer.MIN_VALUE)
+					throw invalid(content, currentSize);
+				digits++;
+				b = next();
+			}
+
+			// A value must have digits and end at whitespace or end of line
+			if (digits == 0 || (b != '\n' && b != -1 && !isWhitespace(b)))
+				throw invalid(content, currentSize);
+
+			if (!negative && value == Integer.MIN_VALUE)
+				throw invalid(content, currentSize);
+
+			content[currentSize++] = (int) (negative ? value : -value);
+		}
+
+		return currentSize;
+	}
+
+	/**
+	 * Parse the attributes of the process on the next line: arrive time,
+	 * burst time and priority. Every parser reads its processes through this
+	 * method, so a malformed line is reported the same way whichever parser
+	 * reads the disk file.
+	 *
+	 * @param attributes the array of three attributes to fill.
+	 * @throws Exception if the line does not hold the three attributes.
+	 */
+	void parseProcess(int[] attributes) throws Exception {
+		long start = position();
+		int currentSize = parseLine(attributes);
+
+		if (currentSize != attributes.length)
+			throw new Exception("Missing process attributes on disk file: "
+				+ Arrays.toString(Arrays.copyOf(attributes, currentSize)) + " at byte " + start);
+	}
+
+	/**
+	 * Retrieves the position of the next byte to read, counted from the start
+	 * of the input.
+	 *
+	 * @return the position of the next byte.
+	 */
+	long position() {
+		return offset + buffer.position();
+	}
+
+	/**
+	 * Closes the channel, if any.
+	 *
+	 * @throws IOException if the channel cannot be closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		if (channel != null)
+			channel.close();
+	}
+
+	/**
+	 * Reads the next byte.
+	 *
+	 * @return the next byte, or -1 at the end of the input.
+	 * @throws IOException if the channel cannot be read.
+	 */
+	private int next() throws IOException {
+		if (!buffer.hasRemaining() && !fill())
+			return -1;
+
+		return buffer.get() & 0xFF;
+	}
+
+	/**
+	 * Refills the buffer from the channel.
+	 *
+	 * @return true if there are bytes to read.
+	 * @throws IOException if the channel cannot be read.
+	 */
+	private boolean fill() throws IOException {
+		while (!endOfInput) {
+			offset += buffer.position();
+			buffer.clear();
+
+			int read = channel.read(buffer);
+			buffer.flip();
+
+			if (read < 0)
+				endOfInput = true;
+			else if (read > 0)
+				return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Checks if a byte separates values on a line.
+	 *
+	 * @param b the byte.
+	 * @return true if the byte is whitespace other than a line feed.
+	 */
+	private static boolean isWhitespace(int b) {
+		return b == ' ' || b == '\t' || b == '\r' || b == '\f' || b == 0x0B;
+	}
+
+	/**
+	 * Creates the error raised for a value that is not an integer.
+	 *
+	 * @param content     the values parsed so far.
+	 * @param currentSize the number of values parsed so far.
+	 * @return the error to throw.
+	 */
+	private Exception invalid(int[] content, int currentSize) {
+		return new Exception("Invalid integer on disk file after values: "
+			+ Arrays.toString(Arrays.copyOf(content, Math.min(currentSize, content.length)))
+			+ " at byte " + (position() - 1));
+	}
+}
@@ -1,7 +1,8 @@
 package com.zhunio.process.schedule;
 
-import com.zhunio.process.PCB;
 import com.zhunio.process.queue.ReadyQueue;
+import com.zhunio.process.schedule.gantt.GanttSink;
+import com.zhunio.process.schedule.metrics.SchedulingMetrics;
 
 import java.util.List;
 
@@ -19,7 +20,7 @@ import java.util.List;
  */
 public class CPUScheduler {
 	/* List of processes ready to be executed by the CPU */
-	private ReadyQueue<PCB> readyQueue;
+	private ReadyQueue readyQueue;
 
 	/* The schedule algorithm that the CPU must use */
 	private ScheduleAlgorithm scheduleAlgorithm;
@@ -32,7 +33,7 @@ public class CPUScheduler {
 	 * @param scheduleAlgorithm the {@code ScheduleAlgorithm} that will decide
 	 *                          which processes visit the CPU first.
 	 */
-	public CPUScheduler(ReadyQueue<PCB> readyQueue,
+	public CPUScheduler(ReadyQueue readyQueue,
 				 ScheduleAlgorithm scheduleAlgorithm) {
 		// Get a hold of the ready queue
 		this.readyQueue = readyQueue;
@@ -54,4 +55,29 @@ public class CPUScheduler {
 		// visited the CPU
 		return scheduleAlgorithm.run(readyQueue);
 	}
+
+	/**
+	 * Dispatch all the processes form the ready queue to the CPU, emitting
+	 * the order of execution into the given {@code GanttSink} as it goes.
+	 *
+	 * @param sink receives the order of execution of processes.
+	 */
+	public void dispatch(GanttSink sink) {
+		scheduleAlgorithm.run(readyQueue, sink);
+	}
+
+	/**
+	 * Dispatch all the processes form the ready queue to the CPU, emitting
+	 * the order of execution into the given {@code GanttSink} while the
+	 * waiting, turnaround and response times of the processes are measured.
+	 *
+	 * @param sink receives the order of execution of processes.
+	 * @return the metrics of the processes.
+	 */
+	public SchedulingMetrics dispatchMeasured(GanttSink sink) {
+		SchedulingMetrics metrics = new SchedulingMetrics(sink);
+		scheduleAlgorithm.run(readyQueue, metrics);
+
+		return metrics;
+	}
 }
@@ -0,0 +1,21 @@
+package com.zhunio.process.schedule;
+
+/**
+ * Created on 10/17/26.
+ *
+ * The types of events of the {@code SimulationKernel}. An event is not an
+ * object of its own: the kernel hands its type and the handle of the process
+ * it concerns straight to the {@code EventHandler}, so simulating a job pool
+ * allocates nothing per event. Every arrival at a given time is delivered
+ * before the quantum expiry or completion at that time.
+ */
+public enum Event {
+	/* A process arrives at the ready queue */
+	ARRIVAL,
+
+	/* The quantum of the process on the CPU expires */
+	QUANTUM_EXPIRY,
+
+	/* The process on the CPU finishes its burst */
+	COMPLETION
+}
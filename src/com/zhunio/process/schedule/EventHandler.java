@@ -0,0 +1,33 @@
+package com.zhunio.process.schedule;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Receives the {@code Event}s of a {@code SimulationKernel}. A
+ * {@code ScheduleAlgorithm} plugs into the kernel by implementing this
+ * interface: it is told about arrivals, quantum expiries and completions, and
+ * is asked to {@code dispatch} once every event of the current time has been
+ * delivered.
+ */
+public interface EventHandler {
+
+	/**
+	 * Handles a single {@code Event}. The clock of the kernel already equals
+	 * the time of the event.
+	 *
+	 * @param event   the type of the event to handle.
+	 * @param process the handle of the process the event concerns,
+	 *                {@code ProcessTable.NO_PROCESS} for an idle CPU.
+	 * @param kernel  the kernel delivering the event.
+	 */
+	void handle(Event event, int process, SimulationKernel kernel);
+
+	/**
+	 * Gives the CPU to a process if it is free. Called after every event
+	 * happening at the current time of the kernel has been handled. New events
+	 * are scheduled through {@link SimulationKernel#schedule}.
+	 *
+	 * @param kernel the kernel running the simulation.
+	 */
+	void dispatch(SimulationKernel kernel);
+}
@@ -0,0 +1,402 @@
+package com.zhunio.process.schedule;
+
+import com.zhunio.process.queue.StreamingQueue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Sorts the processes of a job pool by arrive time with bounded memory. The
+ * processes are parsed into runs of at most {@code runSize} processes; each
+ * run is sorted in memory and spilled to a temporary file. The runs are then
+ * merged, {@code fanIn} at a time, into a single stream of processes
+ * ordered by arrive time and then by process ID, which is put into a
+ * {@code StreamingQueue}. A job pool that fits in a single run never
+ * touches the disk.
+ */
+class ExternalJobPoolSorter {
+	/* Default number of processes sorted in memory at once */
+	static final int RUN_SIZE = 1 << 21;
+
+	/* Default number of runs merged at once */
+	static final int MAX_FAN_IN = 64;
+
+	/* Size of a spilled process record in bytes */
+	private static final int RECORD_SIZE = 16;
+
+	/* Size of the buffer of every run reader and writer */
+	private static final int BUFFER_SIZE = RECORD_SIZE * 4096;
+
+	/* Directory holding the temporary run files */
+	private Path directory;
+
+	/* Number of processes sorted in memory at once */
+	private int runSize;
+
+	/* Number of runs merged at once */
+	private int fanIn;
+
+	/* Attributes of the processes of the run being collected */
+	private int[] processIDs;
+	private int[] arriveTimes;
+	private int[] burstTimes;
+	private int[] priorities;
+
+	/* Number of processes in the run being collected */
+	private int count;
+
+	/* Runs left to merge */
+	private List<Path> runs;
+
+	/* Every temporary run file created */
+	private List<Path> temporary;
+
+	/**
+	 * Creates a new {@code ExternalJobPoolSorter}.
+	 *
+	 * @param directory the directory holding the temporary run files.
+	 * @param runSize   the number of processes sorted in memory at once.
+	 */
+	ExternalJobPoolSorter(Path directory, int runSize) {
+		this(directory, runSize, MAX_FAN_IN);
+	}
+
+	/**
+	 * Creates a new {@code ExternalJobPoolSorter} merging the given number of
+	 * runs at once.
+	 *
+	 * @param directory the directory holding the temporary run files.
+	 * @param runSize   the number of processes sorted in memory at once.
+	 * @param fanIn     the number of runs merged at once, at least 2.
+	 */
+	ExternalJobPoolSorter(Path directory, int runSize, int fanIn) {
+		if (runSize < 1 || fanIn < 2)
+			throw new IllegalArgumentException("Invalid run size " + runSize
+				+ " and fan-in " + fanIn);
+
+		this.directory = directory;
+		this.runSize = runSize;
+		this.fanIn = fanIn;
+		this.runs = new ArrayList<>();
+		this.temporary = new ArrayList<>();
+	}
+
+	/**
+	 * Sorts the processes of a job pool whose header has been read, and puts
+	 * them into the ready queue in order of arrive time. The temporary run
+	 * files are removed afterwards.
+	 *
+	 * @param reader     the reader of the job pool.
+	 * @param processes  the queue receiving the sorted processes.
+	 * @throws Exception if the job pool is invalid or the run files cannot be
+	 *                   read or written.
+	 */
+	void sort(JobPoolReader reader, StreamingQueue processes) throws Exception {
+		processIDs = new int[runSize];
+		arriveTimes = new int[runSize];
+		burstTimes = new int[runSize];
+		priorities = new int[runSize];
+
+		try {
+			// Collect the processes into sorted runs
+			long processNo = reader.readProcesses(this::collect);
+			reader.checkProcessNo(processNo);
+
+			// A job pool fitting in a single run is put straight away
+			if (runs.isEmpty()) {
+				int[] order = sortRun();
+				for (int i : order)
+					processes.put(processIDs[i], arriveTimes[i],
+						burstTimes[i], priorities[i]);
+				return;
+			}
+
+			// Spill the last run and free the memory of the runs
+			spill();
+			processIDs = arriveTimes = burstTimes = priorities = null;
+
+			// Merge the runs until they can be merged at once
+			while (runs.size() > fanIn) {
+				List<Path> merged = new ArrayList<>();
+				for (int i = 0; i < runs.size(); i += fanIn) {
+					List<Path> group = runs.subList(i, Math.min(runs.size(), i + fanIn));
+					Path run = createRun();
+					merged.add(run);
+
+					try (RunWriter writer = new RunWriter(run)) {
+						merge(group, writer::write);
+					}
+					for (Path path : group)
+						Files.delete(path);
+				}
+				runs = merged;
+			}
+
+			// Merge the remaining runs into the ready queue
+			merge(runs, processes::put);
+		} finally {
+			for (Path run : temporary)
+				Files.deleteIfExists(run);
+		}
+	}
+
+	/**
+	 * Retrieves the number of run files written so far, by spilling runs and
+	 * by merging them, all of which are removed once the sort ends.
+	 *
+	 * @return the number of run files written.
+	 */
+	int getRunsWritten() {
+		return temporary.size();
+	}
+
+	/**
+	 * Adds a process to the run being collected, spilling the run once it is
+	 * full.
+	 *
+	 * @param processID  the process ID.
+	 * @param arriveTime the arrive time of the process.
+	 * @param burstTime  the burst time of the process.
+	 * @param priority   the priority of the process.
+	 * @throws IOException if the run cannot be spilled.
+	 */
+	private void collect(int processID, int arriveTime, int burstTime, int priority)
+		throws IOException {
+
+		if (count == runSize)
+			spill();
+
+		processIDs[count] = processID;
+		arriveTimes[count] = arriveTime;
+		burstTimes[count] = burstTime;
+		priorities[count] = priority;
+		count++;
+	}
+
+	/**
+	 * Sorts the run being collected and writes it to a new run file.
+	 *
+	 * @throws IOException if the run cannot be written.
+	 */
+	private void spill() throws IOException {
+		Path run = createRun();
+		runs.add(run);
+
+		try (RunWriter writer = new RunWriter(run)) {
+			for (int i : sortRun())
+				writer.write(processIDs[i], arriveTimes[i], burstTimes[i], priorities[i]);
+		}
+
+		count = 0;
+	}
+
+	/**
+	 * Creates a new temporary run file.
+	 *
+	 * @return the path to the run file.
+	 * @throws IOException if the run file cannot be created.
+	 */
+	private Path createRun() throws IOException {
+		Path run = Files.createTempFile(directory, "run", ".bin");
+		temporary.add(run);
+
+		return run;
+	}
+
+	/**
+	 * Sorts the run being collected by arrive time. Processes are collected in
+	 * file order, so equal arrive times keep the order of their process IDs.
+	 *
+	 * @return the positions of the processes of the run in sorted order.
+	 */
+	private int[] sortRun() {
+		long[] keys = new long[count];
+		for (int i = 0; i < count; i++)
+			keys[i] = ((long) arriveTimes[i] << 32) | i;
+
+		Arrays.sort(keys);
+
+		int[] order = new int[count];
+		for (int i = 0; i < count; i++)
+			order[i] = (int) keys[i];
+
+		return order;
+	}
+
+	/**
+	 * Merges sorted runs in order of arrive time and then process ID.
+	 *
+	 * @param runs      the runs to merge.
+	 * @param collector receives the merged processes.
+	 * @throws Exception if a run cannot be read or the collector fails.
+	 */
+	private void merge(List<Path> runs, JobPoolParser.ProcessCollector collector)
+		throws Exception {
+
+		PriorityQueue<RunReader> heads = new PriorityQueue<>(runs.size(), (r1, r2) ->
+			r1.arriveTime != r2.arriveTime ? Integer.compare(r1.arriveTime, r2.arriveTime)
+				: Integer.compare(r1.processID, r2.processID));
+
+		try {
+			for (Path run : runs) {
+				RunReader reader = new RunReader(run);
+				if (reader.advance())
+					heads.add(reader);
+				else
+					reader.close();
+			}
+
+			while (!heads.isEmpty()) {
+				RunReader reader = heads.poll();
+				collector.collect(reader.processID, reader.arriveTime,
+					reader.burstTime, reader.priority);
+
+				if (reader.advance())
+					heads.add(reader);
+				else
+					reader.close();
+			}
+		} finally {
+			for (RunReader reader : heads)
+				reader.close();
+		}
+	}
+
+	/**
+	 * Writes the processes of a run file.
+	 */
+	static class RunWriter implements Closeable {
+		/* Channel of the run file */
+		private FileChannel channel;
+
+		/* Records not written yet */
+		private ByteBuffer buffer;
+
+		/**
+		 * Creates a new {@code RunWriter}.
+		 *
+		 * @param run the run file.
+		 * @throws IOException if the run file cannot be opened.
+		 */
+		RunWriter(Path run) throws IOException {
+			channel = FileChannel.open(run, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING);
+			buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		}
+
+		/**
+		 * Writes a single process.
+		 *
+		 * @param processID  the process ID.
+		 * @param arriveTime the arrive time of the process.
+		 * @param burstTime  the burst time of the process.
+		 * @param priority   the priority of the process.
+		 * @throws IOException if the run file cannot be written.
+		 */
+		void write(int processID, int arriveTime, int burstTime, int priority)
+			throws IOException {
+
+			if (!buffer.hasRemaining())
+				flush();
+
+			buffer.putInt(processID);
+			buffer.putInt(arriveTime);
+			buffer.putInt(burstTime);
+			buffer.putInt(priority);
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				flush();
+			} finally {
+				channel.close();
+			}
+		}
+
+		/**
+		 * Writes the buffered records.
+		 *
+		 * @throws IOException if the run file cannot be written.
+		 */
+		private void flush() throws IOException {
+			buffer.flip();
+			while (buffer.hasRemaining())
+				channel.write(buffer);
+			buffer.clear();
+		}
+	}
+
+	/**
+	 * Reads the processes of a run file one at a time. The attributes of the
+	 * current process are exposed as fields.
+	 */
+	static class RunReader implements Closeable {
+		/* Channel of the run file */
+		private FileChannel channel;
+
+		/* Records read but not consumed yet */
+		private ByteBuffer buffer;
+
+		/* Attributes of the current process */
+		int processID;
+		int arriveTime;
+		int burstTime;
+		int priority;
+
+		/**
+		 * Creates a new {@code RunReader}.
+		 *
+		 * @param run the run file.
+		 * @throws IOException if the run file cannot be opened.
+		 */
+		RunReader(Path run) throws IOException {
+			channel = FileChannel.open(run, StandardOpenOption.READ);
+			buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+			buffer.flip();
+		}
+
+		/**
+		 * Moves to the next process of the run.
+		 *
+		 * @return true if there is a next process, false at the end of the run.
+		 * @throws IOException if the run file cannot be read.
+		 */
+		boolean advance() throws IOException {
+			if (buffer.remaining() < RECORD_SIZE) {
+				buffer.compact();
+				while (buffer.position() < RECORD_SIZE && channel.read(buffer) >= 0) {
+					// Keep reading until a whole record is buffered
+				}
+				buffer.flip();
+
+				if (buffer.remaining() < RECORD_SIZE)
+					return false;
+			}
+
+			processID = buffer.getInt();
+			arriveTime = buffer.getInt();
+			burstTime = buffer.getInt();
+			priority = buffer.getInt();
+
+			return true;
+		}
+
+		@Override
+		public void close() throws IOException {
+			channel.close();
+		}
+	}
+}
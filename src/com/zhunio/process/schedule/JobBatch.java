@@ -0,0 +1,362 @@
+package com.zhunio.process.schedule;
+
+import com.zhunio.process.queue.ReadyQueue;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Schedules many job pools in one JVM. Every job pool is loaded on one
+ * bounded pool of threads and simulated on another, so the next job pools
+ * are parsed while the previous ones are simulated. At most twice as many
+ * job pools as workers are loaded at once, the ones being simulated and as
+ * many prefetched, which bounds the memory of the batch.
+ *
+ * A job pool that cannot be loaded or simulated is reported as failed, and
+ * the others are scheduled as usual. The ready queue of every job pool is
+ * closed once it is done with, so a streamed job pool whose simulation
+ * failed leaves no parser thread or open file behind.
+ */
+public class JobBatch {
+	/* Number of job pools loaded at once, and simulated at once */
+	private int workers;
+
+	/* Loads a job pool */
+	private Loader loader;
+
+	/* Simulates a loaded job pool */
+	private Simulation simulation;
+
+	/**
+	 * Creates a new {@code JobBatch}.
+	 *
+	 * @param workers    the number of job pools simulated at once.
+	 * @param loader     loads a job pool.
+	 * @param simulation simulates a loaded job pool.
+	 */
+	public JobBatch(int workers, Loader loader, Simulation simulation) {
+		if (workers < 1)
+			throw new IllegalArgumentException("Invalid number of workers: " + workers);
+
+		this.workers = workers;
+		this.loader = loader;
+		this.simulation = simulation;
+	}
+
+	/**
+	 * Finds the job pools of a batch: the files of a directory, or the files
+	 * matching a glob such as {@code pools/*.data} or {@code runs/**}, in
+	 * order of path.
+	 *
+	 * @param pattern the directory or the glob.
+	 * @return the job pools.
+	 * @throws IOException if a directory cannot be listed.
+	 */
+	public static List<Path> find(String pattern) throws IOException {
+		Path directory = Paths.get(pattern);
+
+		if (Files.isDirectory(directory)) {
+			try (Stream<Path> files = Files.list(directory)) {
+				return files.filter(Files::isRegularFile).sorted().collect(Collectors.toList());
+			}
+		}
+
+		// Walk from the last directory before the first wildcard
+		int wildcard = 0;
+		while (wildcard < pattern.length() && "*?[{".indexOf(pattern.charAt(wildcard)) < 0)
+			wildcard++;
+		int separator = pattern.lastIndexOf('/', wildcard);
+		Path base = Paths.get(separator < 0 ? "" : pattern.substring(0, separator + 1));
+
+		// Only ** reaches below the depth of the glob
+		int depth = pattern.contains("**") ? Integer.MAX_VALUE
+			: Paths.get(pattern).getNameCount() - (separator < 0 ? 0 : base.getNameCount());
+
+		PathMatcher matcher = base.getFileSystem().getPathMatcher("glob:" + pattern);
+
+		if (!Files.isDirectory(base))
+			return new ArrayList<>();
+
+		try (Stream<Path> files = Files.walk(base, depth)) {
+			return files.filter(file -> matcher.matches(file) && Files.isRegularFile(file))
+				.sorted().collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Loads and simulates the given job pools, and waits for all of them.
+	 *
+	 * @param jobPools the job pools.
+	 * @return the result of every job pool, in the same order.
+	 * @throws InterruptedException if interrupted while waiting.
+	 */
+	public List<Result> run(List<Path> jobPools) throws InterruptedException {
+		ExecutorService loaders = Executors.newFixedThreadPool(workers, threads("batch-loader"));
+		ExecutorService simulators = Executors.newFixedThreadPool(workers, threads("batch-worker"));
+
+		// Job pools being loaded, prefetched or simulated
+		Semaphore loaded = new Semaphore(2 * workers);
+
+		List<Result> results = new ArrayList<>();
+		List<CompletableFuture<Void>> pending = new ArrayList<>();
+
+		try {
+			for (Path jobPool : jobPools) {
+				Result result = new Result(jobPool);
+				results.add(result);
+
+				loaded.acquire();
+				pending.add(CompletableFuture.runAsync(result::load, loaders)
+					.thenRunAsync(result::simulate, simulators)
+					.whenComplete((ignored, error) -> {
+						// Errors such as running out of memory fail the job
+						// pool too, its memory is released anyway
+						if (error != null)
+							result.fail(error.getCause() != null ? error.getCause() : error);
+						result.release();
+						loaded.release();
+					}));
+			}
+
+			for (CompletableFuture<Void> future : pending)
+				future.exceptionally(error -> null).join();
+		} finally {
+			loaders.shutdownNow();
+			simulators.shutdownNow();
+		}
+
+		return results;
+	}
+
+	/**
+	 * Prints one line per job pool with its load and simulation times or
+	 * its error, and a total line:
+	 *
+	 * pools/a.data load=120ms simulate=340ms
+	 * pools/b.data load=3ms failed: No valid number of processes: -1
+	 * 2 job pools, 1 failed, load=123ms simulate=340ms wall=350ms
+	 *
+	 * @param results the results of the job pools.
+	 * @param wall    the time the batch took, in nanoseconds.
+	 * @param out     the stream to print to.
+	 */
+	public static void printSummary(List<Result> results, long wall, PrintStream out) {
+		long load = 0;
+		long simulate = 0;
+		int failed = 0;
+
+		for (Result result : results) {
+			load += result.loadTime;
+			simulate += result.simulateTime;
+
+			if (result.isFailed()) {
+				failed++;
+				out.println(result.jobPool + " load=" + millis(result.loadTime)
+					+ " failed: " + (result.error.getMessage() != null
+					? result.error.getMessage() : result.error.toString()));
+			} else {
+				out.println(result.jobPool + " load=" + millis(result.loadTime)
+					+ " simulate=" + millis(result.simulateTime));
+			}
+		}
+
+		out.println(results.size() + " job pools, " + failed + " failed, load=" + millis(load)
+			+ " simulate=" + millis(simulate) + " wall=" + millis(wall));
+	}
+
+	/**
+	 * Formats nanoseconds as milliseconds.
+	 *
+	 * @param nanos the nanoseconds.
+	 * @return the milliseconds, with their unit.
+	 */
+	private static String millis(long nanos) {
+		return nanos / 1_000_000 + "ms";
+	}
+
+	/**
+	 * Creates the daemon threads of a pool, so a stuck job pool never keeps
+	 * the JVM alive.
+	 *
+	 * @param name the name of the threads, numbered from 1.
+	 * @return the factory of the threads.
+	 */
+	private static ThreadFactory threads(String name) {
+		AtomicInteger count = new AtomicInteger();
+
+		return task -> {
+			Thread thread = new Thread(task, name + "-" + count.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		};
+	}
+
+	/**
+	 * Loads a job pool.
+	 */
+	public interface Loader {
+		/**
+		 * Loads a job pool into a ready queue.
+		 *
+		 * @param jobPool path to the job pool.
+		 * @return the ready queue.
+		 * @throws Exception if the job pool cannot be loaded.
+		 */
+		ReadyQueue load(String jobPool) throws Exception;
+	}
+
+	/**
+	 * Simulates a loaded job pool.
+	 */
+	public interface Simulation {
+		/**
+		 * Simulates a job pool and writes its output.
+		 *
+		 * @param jobPool    path to the job pool.
+		 * @param readyQueue the ready queue the job pool was loaded into.
+		 * @throws Exception if the simulation fails or its output cannot be
+		 *                   written.
+		 */
+		void simulate(String jobPool, ReadyQueue readyQueue) throws Exception;
+	}
+
+	/**
+	 * Outcome of a job pool of the batch.
+	 */
+	public class Result {
+		/* Path to the job pool */
+		private Path jobPool;
+
+		/* Ready queue of the loaded job pool, until it is simulated */
+		private volatile ReadyQueue readyQueue;
+
+		/* Time spent loading, in nanoseconds */
+		private volatile long loadTime;
+
+		/* Time spent simulating, in nanoseconds */
+		private volatile long simulateTime;
+
+		/* Error that failed the job pool, null if it succeeded */
+		private volatile Throwable error;
+
+		/**
+		 * Creates the result of a job pool not loaded yet.
+		 *
+		 * @param jobPool path to the job pool.
+		 */
+		Result(Path jobPool) {
+			this.jobPool = jobPool;
+		}
+
+		/**
+		 * Retrieves the job pool.
+		 * @return path to the job pool.
+		 */
+		public Path getJobPool() {
+			return jobPool;
+		}
+
+		/**
+		 * Retrieves the time spent loading the job pool.
+		 * @return the time, in nanoseconds.
+		 */
+		public long getLoadTime() {
+			return loadTime;
+		}
+
+		/**
+		 * Retrieves the time spent simulating the job pool.
+		 * @return the time, in nanoseconds, 0 if it was never simulated.
+		 */
+		public long getSimulateTime() {
+			return simulateTime;
+		}
+
+		/**
+		 * Retrieves the error that failed the job pool.
+		 * @return the error, null if the job pool succeeded.
+		 */
+		public Throwable getError() {
+			return error;
+		}
+
+		/**
+		 * Checks if the job pool failed.
+		 * @return true if the job pool failed.
+		 */
+		public boolean isFailed() {
+			return error != null;
+		}
+
+		/**
+		 * Loads the job pool, recording the time or the error.
+		 */
+		private void load() {
+			long start = System.nanoTime();
+
+			try {
+				readyQueue = loader.load(jobPool.toString());
+			} catch (Exception e) {
+				fail(e);
+			} finally {
+				loadTime = System.nanoTime() - start;
+			}
+		}
+
+		/**
+		 * Simulates the loaded job pool, recording the time or the error.
+		 */
+		private void simulate() {
+			if (isFailed())
+				return;
+
+			long start = System.nanoTime();
+
+			try {
+				simulation.simulate(jobPool.toString(), readyQueue);
+			} catch (Exception e) {
+				fail(e);
+			} finally {
+				simulateTime = System.nanoTime() - start;
+				release();
+			}
+		}
+
+		/**
+		 * Closes the ready queue of the job pool, if it was loaded, which stops
+		 * the parser of a streamed job pool the simulation did not finish.
+		 */
+		private void release() {
+			ReadyQueue loaded = readyQueue;
+			readyQueue = null;
+
+			if (loaded != null)
+				loaded.close();
+		}
+
+		/**
+		 * Records the first error of the job pool.
+		 * @param error the error.
+		 */
+		private void fail(Throwable error) {
+			if (this.error == null)
+				this.error = error;
+		}
+	}
+}
@@ -0,0 +1,71 @@
+package com.zhunio.process.schedule;
+
+import java.io.File;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Converts a job pool from the text format read by {@code JobPoolParser},
+ * compressed or not, into the binary format of {@code BinaryJobPool}. The
+ * processes are streamed from one file to the other, so the job pool never
+ * needs to fit in memory.
+ *
+ * java -cp scheduler.jar com.zhunio.process.schedule.JobPoolConverter input.data input.bin
+ */
+public class JobPoolConverter {
+
+	/**
+	 * Converts the text job pool given as first argument into the binary job
+	 * pool given as second argument.
+	 *
+	 * @param args the text job pool and the binary job pool.
+	 * @throws Exception If an error occurs
+	 */
+	public static void main(String[] args) throws Exception {
+
+		// Check for invalid number of cmd arguments
+		if (args.length != 2) {
+			System.err.println("Usage: JobPoolConverter <text job pool> <binary job pool>");
+			System.exit(1);
+		}
+
+		try {
+			convert(args[0], args[1]);
+		} catch (Exception e) {
+			System.err.println(e.getMessage());
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Converts a text job pool into a binary job pool. The binary job pool is
+	 * removed if the text job pool turns out to be invalid.
+	 *
+	 * @param textPool   path to the text job pool.
+	 * @param binaryPool path to the binary job pool to write.
+	 * @throws Exception if the text job pool is invalid or a file cannot be
+	 *                   read or written.
+	 */
+	public static void convert(String textPool, String binaryPool) throws Exception {
+		JobPoolParser parser = new JobPoolParser(textPool);
+
+		try {
+			parser.readHeader();
+
+			try (BinaryJobPool.Writer writer = new BinaryJobPool.Writer(binaryPool,
+				parser.getProcessNo(), parser.isPreemptive(), parser.getQuantumTime())) {
+
+				long processNo = parser.readProcesses(
+					(processID, arriveTime, burstTime, priority) ->
+						writer.write(arriveTime, burstTime, priority));
+
+				parser.checkProcessNo(processNo);
+			} catch (Exception e) {
+				new File(binaryPool).delete();
+				throw e;
+			}
+		} finally {
+			parser.close();
+		}
+	}
+}
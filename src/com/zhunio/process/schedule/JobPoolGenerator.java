@@ -0,0 +1,540 @@
+package com.zhunio.process.schedule;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Generates a text job pool, as read by {@code JobPoolParser}, from a seed.
+ * The same seed and settings always write the same file: the random numbers
+ * come from a {@code SplittableRandom} and are shaped with {@code StrictMath},
+ * whose results do not depend on the platform.
+ *
+ * Processes are written as they are drawn into a fixed buffer, so any number
+ * of them is generated in constant memory, sorted by arrive time:
+ *
+ * - arrivals are a Poisson process of the given rate, or bursty: bursts of a
+ * geometric number of processes arriving close together, separated by idle
+ * gaps, at the same long run rate
+ * - burst times are uniform, exponential or Pareto, the heavy tailed one,
+ * around the given mean and cut at a maximum
+ * - priorities are uniform in the given range
+ *
+ * java -cp scheduler.jar com.zhunio.process.schedule.JobPoolGenerator --processes 1000000 input.data
+ */
+public class JobPoolGenerator {
+	/* Size of the output buffer */
+	private static final int BUFFER_SIZE = 64 << 10;
+
+	/* Longest line: three integers of up to 11 characters and separators */
+	private static final int MAX_LINE = 40;
+
+	/**
+	 * Processes by which the arrive times are spread.
+	 */
+	public enum Arrivals {
+		/* Exponential gaps between arrivals */
+		POISSON,
+
+		/* Bursts of arrivals separated by idle gaps */
+		BURSTY
+	}
+
+	/**
+	 * Distributions of the burst times.
+	 */
+	public enum Bursts {
+		/* Uniform in [1, 2 * mean - 1] */
+		UNIFORM,
+
+		/* 1 plus an exponential of mean - 1 */
+		EXPONENTIAL,
+
+		/* Pareto of the given shape, scaled to the mean */
+		PARETO
+	}
+
+	/* Seed of the random numbers */
+	private long seed;
+
+	/* Number of processes */
+	private long processNo;
+
+	/* Process by which the arrive times are spread */
+	private Arrivals arrivals;
+
+	/* Mean number of arrivals per time unit */
+	private double rate;
+
+	/* Mean number of processes per burst of arrivals */
+	private double burstSize;
+
+	/* Distribution of the burst times */
+	private Bursts bursts;
+
+	/* Mean burst time */
+	private double burstMean;
+
+	/* Shape of the Pareto burst times, lower for a heavier tail */
+	private double burstShape;
+
+	/* Longest burst time */
+	private int maxBurst;
+
+	/* Lowest priority */
+	private int minPriority;
+
+	/* Highest priority */
+	private int maxPriority;
+
+	/* Whether the job pool asks for preemption */
+	private boolean preemptive;
+
+	/* Quantum time */
+	private int quantumTime;
+
+	/**
+	 * Creates a new {@code JobPoolGenerator} of 1000 preemptive processes
+	 * with a quantum time of 4, Poisson arrivals at a rate of 0.1, Pareto
+	 * burst times of mean 10 and shape 1.5 up to 100000, and priorities
+	 * between 1 and 100.
+	 */
+	public JobPoolGenerator() {
+		this.processNo = 1000;
+		this.arrivals = Arrivals.POISSON;
+		this.rate = 0.1;
+		this.burstSize = 16;
+		this.bursts = Bursts.PARETO;
+		this.burstMean = 10;
+		this.burstShape = 1.5;
+		this.maxBurst = 100_000;
+		this.minPriority = 1;
+		this.maxPriority = 100;
+		this.preemptive = true;
+		this.quantumTime = 4;
+	}
+
+	/**
+	 * Generates the job pool given as last argument, with the settings given
+	 * as options before it.
+	 *
+	 * @param args the options and the job pool.
+	 * @throws Exception If an error occurs
+	 */
+	public static void main(String[] args) throws Exception {
+		JobPoolGenerator generator = new JobPoolGenerator();
+
+		// Options come before the job pool
+		int first = 0;
+		try {
+			while (first < args.length - 1 && args[first].startsWith("--")) {
+				String option = args[first++];
+
+				// Every option but --non-preemptive takes values
+				int values = option.equals("--priorities") ? 2
+					: option.equals("--non-preemptive") ? 0 : 1;
+				if (args.length - 1 - first < values)
+					throw new IllegalArgumentException("Expecting a value for " + option);
+
+				switch (option) {
+					case "--seed":
+						generator.setSeed(Long.parseLong(args[first++]));
+						break;
+					case "--processes":
+						generator.setProcessNo(Long.parseLong(args[first++]));
+						break;
+					case "--arrivals":
+						generator.setArrivals(parse(Arrivals.class, "arrival process", args[first++]));
+						break;
+					case "--rate":
+						generator.setRate(Double.parseDouble(args[first++]));
+						break;
+					case "--burst-size":
+						generator.setBurstSize(Double.parseDouble(args[first++]));
+						break;
+					case "--bursts":
+						generator.setBursts(parse(Bursts.class, "burst distribution", args[first++]));
+						break;
+					case "--burst-mean":
+						generator.setBurstMean(Double.parseDouble(args[first++]));
+						break;
+					case "--burst-shape":
+						generator.setBurstShape(Double.parseDouble(args[first++]));
+						break;
+					case "--max-burst":
+						generator.setMaxBurst(Integer.parseInt(args[first++]));
+						break;
+					case "--priorities":
+						generator.setPriorities(Integer.parseInt(args[first++]),
+							Integer.parseInt(args[first++]));
+						break;
+					case "--non-preemptive":
+						generator.setPreemptive(false);
+						break;
+					case "--quantum":
+						generator.setQuantumTime(Integer.parseInt(args[first++]));
+						break;
+					default:
+						throw new IllegalArgumentException("Unknown option: " + option);
+				}
+			}
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.exit(1);
+		}
+
+		// Check for invalid number of cmd arguments
+		if (args.length - first != 1) {
+			System.err.println("Usage: JobPoolGenerator [--seed N] [--processes N]"
+				+ " [--arrivals poisson|bursty] [--rate R] [--burst-size N]"
+				+ " [--bursts uniform|exponential|pareto] [--burst-mean M] [--burst-shape A]"
+				+ " [--max-burst N] [--priorities MIN MAX] [--non-preemptive] [--quantum Q]"
+				+ " <job pool>");
+			System.exit(1);
+		}
+
+		try {
+			generator.generate(args[first]);
+		} catch (Exception e) {
+			System.err.println(e.getMessage());
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Parses the name of a constant of an enum, in any case.
+	 *
+	 * @param type  the enum.
+	 * @param name  what the enum stands for, for the error message.
+	 * @param value the name of the constant.
+	 * @param <E>   the type of the enum.
+	 * @return the constant.
+	 */
+	private static <E extends Enum<E>> E parse(Class<E> type, String name, String value) {
+		try {
+			return Enum.valueOf(type, value.toUpperCase(Locale.ROOT));
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Unknown " + name + ": " + value);
+		}
+	}
+
+	/**
+	 * Sets the seed of the random numbers.
+	 * @param seed the seed.
+	 */
+	public void setSeed(long seed) {
+		this.seed = seed;
+	}
+
+	/**
+	 * Sets the number of processes, up to the largest number of processes
+	 * {@code JobPoolParser} reads, {@code Integer.MAX_VALUE}.
+	 *
+	 * @param processNo the number of processes.
+	 */
+	public void setProcessNo(long processNo) {
+		if (processNo < 0 || processNo > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Invalid number of processes: " + processNo
+				+ ", must be between 0 and " + Integer.MAX_VALUE);
+
+		this.processNo = processNo;
+	}
+
+	/**
+	 * Sets the process by which the arrive times are spread.
+	 * @param arrivals the arrival process.
+	 */
+	public void setArrivals(Arrivals arrivals) {
+		this.arrivals = arrivals;
+	}
+
+	/**
+	 * Sets the mean number of arrivals per time unit. Multiplied by the mean
+	 * burst time, it gives the load of the CPU.
+	 *
+	 * @param rate the arrival rate.
+	 */
+	public void setRate(double rate) {
+		if (!(rate > 0) || Double.isInfinite(rate))
+			throw new IllegalArgumentException("Invalid arrival rate: " + rate);
+
+		this.rate = rate;
+	}
+
+	/**
+	 * Sets the mean number of processes per burst of bursty arrivals.
+	 * @param burstSize the mean burst size, at least 1.
+	 */
+	public void setBurstSize(double burstSize) {
+		if (!(burstSize >= 1) || Double.isInfinite(burstSize))
+			throw new IllegalArgumentException("Invalid burst size: " + burstSize);
+
+		this.burstSize = burstSize;
+	}
+
+	/**
+	 * Sets the distribution of the burst times.
+	 * @param bursts the distribution.
+	 */
+	public void setBursts(Bursts bursts) {
+		this.bursts = bursts;
+	}
+
+	/**
+	 * Sets the mean burst time, before the cut at the longest burst time.
+	 * @param burstMean the mean burst time, at least 1.
+	 */
+	public void setBurstMean(double burstMean) {
+		if (!(burstMean >= 1) || burstMean > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Invalid mean burst time: " + burstMean);
+
+		this.burstMean = burstMean;
+	}
+
+	/**
+	 * Sets the shape of the Pareto burst times. The closer to 1, the heavier
+	 * the tail.
+	 *
+	 * @param burstShape the shape, above 1 for the mean to exist.
+	 */
+	public void setBurstShape(double burstShape) {
+		if (!(burstShape > 1) || Double.isInfinite(burstShape))
+			throw new IllegalArgumentException("Invalid burst shape: " + burstShape);
+
+		this.burstShape = burstShape;
+	}
+
+	/**
+	 * Sets the longest burst time.
+	 * @param maxBurst the longest burst time, at least 1.
+	 */
+	public void setMaxBurst(int maxBurst) {
+		if (maxBurst < 1)
+			throw new IllegalArgumentException("Invalid longest burst time: " + maxBurst);
+
+		this.maxBurst = maxBurst;
+	}
+
+	/**
+	 * Sets the range of the priorities.
+	 *
+	 * @param minPriority the lowest priority.
+	 * @param maxPriority the highest priority.
+	 */
+	public void setPriorities(int minPriority, int maxPriority) {
+		if (minPriority > maxPriority)
+			throw new IllegalArgumentException("Invalid priority range: "
+				+ minPriority + " to " + maxPriority);
+
+		this.minPriority = minPriority;
+		this.maxPriority = maxPriority;
+	}
+
+	/**
+	 * Sets whether the job pool asks for preemption.
+	 * @param preemptive true for preemptive, false otherwise.
+	 */
+	public void setPreemptive(boolean preemptive) {
+		this.preemptive = preemptive;
+	}
+
+	/**
+	 * Sets the quantum time.
+	 * @param quantumTime the quantum time, at least 1.
+	 */
+	public void setQuantumTime(int quantumTime) {
+		if (quantumTime < 1)
+			throw new IllegalArgumentException("Invalid quantum time: " + quantumTime);
+
+		this.quantumTime = quantumTime;
+	}
+
+	/**
+	 * Writes the job pool, replacing the file if it exists. A file name
+	 * ending in .gz is gzip compressed. The file is removed if the job pool
+	 * cannot be completed.
+	 *
+	 * @param jobPool path to the job pool to write.
+	 * @throws Exception if the arrive times do not fit in an int or the file
+	 *                   cannot be written.
+	 */
+	public void generate(String jobPool) throws Exception {
+		// The last arrival is expected around processNo / rate
+		if (processNo / rate > Integer.MAX_VALUE)
+			throw new Exception("Arrive times of " + processNo + " processes at a rate of "
+				+ rate + " do not fit in an int, raise the rate");
+
+		Path file = Paths.get(jobPool);
+
+		try (WritableByteChannel channel = open(file)) {
+			write(channel);
+		} catch (Exception e) {
+			new File(jobPool).delete();
+			throw e;
+		}
+	}
+
+	/**
+	 * Opens the job pool for writing, through gzip if its name asks for it.
+	 *
+	 * @param file the job pool.
+	 * @return the channel of the job pool.
+	 * @throws IOException if the file cannot be opened.
+	 */
+	private static WritableByteChannel open(Path file) throws IOException {
+		if (file.toString().endsWith(JobPoolParser.GZIP_EXTENSION))
+			return Channels.newChannel(new GZIPOutputStream(Files.newOutputStream(file), 1 << 16));
+
+		return FileChannel.open(file, StandardOpenOption.CREATE,
+			StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+	}
+
+	/**
+	 * Draws the processes and writes the job pool.
+	 *
+	 * @param channel the channel of the job pool.
+	 * @throws Exception if the arrive times do not fit in an int or the job
+	 *                   pool cannot be written.
+	 */
+	private void write(WritableByteChannel channel) throws Exception {
+		ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+		buffer.put((processNo + "\n" + (preemptive ? 1 : 0) + " " + quantumTime + "\n")
+			.getBytes(StandardCharsets.US_ASCII));
+
+		SplittableRandom random = new SplittableRandom(seed);
+
+		// Bursty arrivals come B times faster within a burst, and the idle gap
+		// before every burst keeps the mean gap at 1 / rate over a burst
+		double burstGap = 1 / (rate * burstSize);
+		double idleGap = (burstSize - 1) / rate;
+		double stay = 1 - 1 / burstSize;
+		long burstLeft = 0;
+
+		// Pareto scale giving the mean burst time
+		double scale = burstMean * (burstShape - 1) / burstShape;
+		long priorityRange = (long) maxPriority - minPriority + 1;
+
+		double time = 0;
+		for (long process = 1; process <= processNo; process++) {
+			if (arrivals == Arrivals.POISSON) {
+				time += exponential(random) / rate;
+			} else {
+				if (burstLeft == 0) {
+					time += exponential(random) * idleGap;
+					burstLeft = geometric(random, stay);
+				}
+				time += exponential(random) * burstGap;
+				burstLeft--;
+			}
+
+			if (time >= (double) Integer.MAX_VALUE + 1)
+				throw new Exception("Arrive time of process " + process
+					+ " does not fit in an int, raise the rate");
+
+			long burst;
+			switch (bursts) {
+				case UNIFORM:
+					burst = 1 + random.nextLong(Math.max(1, Math.round(2 * burstMean - 1)));
+					break;
+				case EXPONENTIAL:
+					burst = 1 + (long) (exponential(random) * (burstMean - 1));
+					break;
+				default:
+					burst = (long) Math.ceil(scale * StrictMath.exp(exponential(random) / burstShape));
+			}
+
+			if (buffer.remaining() < MAX_LINE)
+				drain(channel, buffer);
+
+			putInt(buffer, (int) time);
+			buffer.put((byte) ' ');
+			putInt(buffer, (int) Math.max(1, Math.min(maxBurst, burst)));
+			buffer.put((byte) ' ');
+			putInt(buffer, (int) (minPriority + random.nextLong(priorityRange)));
+			buffer.put((byte) '\n');
+		}
+
+		drain(channel, buffer);
+	}
+
+	/**
+	 * Draws an exponential of mean 1.
+	 *
+	 * @param random the source of randomness.
+	 * @return the exponential.
+	 */
+	private static double exponential(SplittableRandom random) {
+		return -StrictMath.log(1 - random.nextDouble());
+	}
+
+	/**
+	 * Draws a geometric number of at least 1, going on with the given
+	 * probability after every one.
+	 *
+	 * @param random the source of randomness.
+	 * @param stay   the probability to go on.
+	 * @return the number.
+	 */
+	private static long geometric(SplittableRandom random, double stay) {
+		if (stay == 0)
+			return 1;
+
+		return 1 + (long) (StrictMath.log(1 - random.nextDouble()) / StrictMath.log(stay));
+	}
+
+	/**
+	 * Encodes an integer as ASCII digits at the position of the buffer.
+	 *
+	 * @param buffer the buffer.
+	 * @param value  the integer.
+	 */
+	private static void putInt(ByteBuffer buffer, int value) {
+		long magnitude = value;
+
+		if (magnitude < 0) {
+			buffer.put((byte) '-');
+			magnitude = -magnitude;
+		}
+
+		// Count the digits, then fill them in from the last one
+		int digits = 1;
+		for (long power = 10; power <= magnitude; power *= 10)
+			digits++;
+
+		byte[] bytes = buffer.array();
+		int position = buffer.position();
+		for (int i = position + digits - 1; i >= position; i--) {
+			bytes[i] = (byte) ('0' + magnitude % 10);
+			magnitude /= 10;
+		}
+
+		buffer.position(position + digits);
+	}
+
+	/**
+	 * Writes the buffer to the channel and empties it.
+	 *
+	 * @param channel the channel.
+	 * @param buffer  the buffer.
+	 * @throws IOException if the buffer cannot be written.
+	 */
+	private static void drain(WritableByteChannel channel, ByteBuffer buffer) throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+		buffer.clear();
+	}
+}
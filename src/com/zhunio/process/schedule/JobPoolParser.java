@@ -1,12 +1,17 @@
 package com.zhunio.process.schedule;
 
-import com.zhunio.process.PCB;
 import com.zhunio.process.queue.ReadyQueue;
-
-import java.io.File;
-import java.io.FileNotFoundException;
+import com.zhunio.process.schedule.jfr.ParseEvent;
+import jdk.jfr.FlightRecorder;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
 import java.util.Arrays;
-import java.util.Scanner;
+import java.util.zip.GZIPInputStream;
 
 /**
  * Created on 10/6/17.
@@ -17,23 +22,93 @@ import java.util.Scanner;
  * 3) Processes
  * <br>
  * Once the previous information is loaded, we load the processes
- * into a queue.
+ * into a queue. The disk file is decoded straight from bytes by a
+ * {@code ByteLineReader}, so no objects are created per line. A gzip
+ * compressed disk file is decompressed on the fly while it is parsed.
  *
  * @author Richard I. Zhunio
  */
-class JobPoolParser {
+class JobPoolParser extends JobPoolReader {
+	/* Extension of gzip compressed disk files */
+	static final String GZIP_EXTENSION = ".gz";
+
+	/* Path to the disk file */
+	private String file;
+
+	/* Represents the reader that will read the contents of the disk file */
+	private ByteLineReader reader;
+
+	/* Number of processes stated by the disk file */
+	private int processNo;
+
+	/* Whether the disk file asks for preemption */
+	private boolean preemption;
 
-	/* Represents the scanner that will read the contents of the disk file */
-	private Scanner reader;
+	/* Quantum time stated by the disk file */
+	private int quantumTime;
 
 	/**
 	 * Creates a new reader that will read the contents of the disk file
 	 *
 	 * @param file the file to read.
-	 * @throws FileNotFoundException if file is not found.
+	 * @throws IOException if file is not found or cannot be read.
+	 */
+	JobPoolParser(String file) throws IOException {
+		this.file = file;
+
+		FileChannel channel = new FileInputStream(file).getChannel();
+		ReadableByteChannel input = channel;
+
+		try {
+			// Decompress the disk file as it is read, which reads its gzip
+			// header right away
+			if (isCompressed(file, channel))
+				input = Channels.newChannel(
+					new GZIPInputStream(Channels.newInputStream(channel), 1 << 16));
+		} catch (IOException | RuntimeException e) {
+			// The reader does not own the disk file yet
+			channel.close();
+			throw e;
+		}
+
+		reader = new ByteLineReader(input);
+	}
+
+	/**
+	 * Checks if a disk file is gzip compressed, either by its extension or by
+	 * the magic bytes at its start.
+	 *
+	 * @param file the file to check.
+	 * @return true if the disk file is gzip compressed.
+	 * @throws IOException if file is not found or cannot be read.
+	 */
+	static boolean isCompressed(String file) throws IOException {
+		try (FileChannel channel = new FileInputStream(file).getChannel()) {
+			return isCompressed(file, channel);
+		}
+	}
+
+	/**
+	 * Checks if a disk file is gzip compressed without moving the position of
+	 * its channel.
+	 *
+	 * @param file    the file to check.
+	 * @param channel the channel of the file.
+	 * @return true if the disk file is gzip compressed.
+	 * @throws IOException if the file cannot be read.
 	 */
-	JobPoolParser(String file) throws FileNotFoundException {
-		reader = new Scanner(new File(file));
+	private static boolean isCompressed(String file, FileChannel channel)
+		throws IOException {
+
+		if (file.endsWith(GZIP_EXTENSION))
+			return true;
+
+		// Look for the gzip magic bytes
+		ByteBuffer magic = ByteBuffer.allocate(2);
+		channel.read(magic, 0);
+
+		return magic.position() == 2 && (magic.get(0) & 0xFF) == 0x1F
+			&& (magic.get(1) & 0xFF) == 0x8B;
 	}
 
 	/**
@@ -47,41 +122,122 @@ class JobPoolParser {
 	 * @return A {@code ReadyQueue}.
 	 * @throws Exception if something wrong happens.
 	 */
-	ReadyQueue<PCB> parse() throws Exception {
+	ReadyQueue parse() throws Exception {
+		// Flight Recorder is only touched while it runs, since loading it
+		// takes longer than parsing a small job pool
+		ParseEvent event = FlightRecorder.isInitialized() ? new ParseEvent() : null;
+		if (event != null)
+			event.begin();
+
+		try {
+			// Read number of processes and options
+			readHeader();
+
+			// Collect the processes, keeping track of whether they come
+			// sorted by arrive time
+			ReadyQueueBuilder builder = new ReadyQueueBuilder(preemption,
+				quantumTime, processNo);
+
+			// Read processes into the ready queue
+			readProcesses(builder);
+
+			// Error occurs if the number of processes does not equal
+			// the actual number of processes read from the disk file
+			checkProcessNo(builder.size());
+
+			// Create new ready queue with the specific schedule algorithm
+			ReadyQueue readyQueue = builder.build();
+
+			if (event != null)
+				event.processes = builder.size();
+			return readyQueue;
+		} finally {
+			close();
+
+			if (event != null) {
+				event.end();
+				if (event.shouldCommit()) {
+					event.jobPool = file;
+					event.commit();
+				}
+			}
+		}
+	}
 
-		// Represents the ready queue. List of processes ready to be allocated to
-		// the CPU.
-		ReadyQueue<PCB> readyQueue;
+	/**
+	 * Reads the first two lines of the disk file, namely the number of
+	 * processes and the options regarding preemption and quantum time.
+	 *
+	 * @throws Exception if the number of processes or the options are invalid.
+	 */
+	@Override
+	void readHeader() throws Exception {
 
 		// Read number of processes in the disk file
 		// We expect a single int value
-		int processNo = readProcessNo();
+		processNo = readProcessNo();
 
 		// Read the following two options
 		// 1) preemption
 		// 2) quantum time
 		int[] options = readOptions();
-		boolean preemption = (options[0] == 1);
-		int quantumTime = options[1];
+		preemption = (options[0] == 1);
+		quantumTime = options[1];
 
 		// Throw error if quantum time is 0
 		if (quantumTime == 0)
 			throw new Exception("Invalid quantum time: " + quantumTime);
+	}
 
-		// Create new ready queue with the specific schedule algorithm
-		readyQueue = new ReadyQueue<>(preemption, quantumTime);
-
-		// Read processes into the ready queue
-		readProcesses(readyQueue);
-
-		// Error occurs if the number of processes does not equal
-		// the actual number of processes read from the disk file
-		if ( processNo != readyQueue.size() )
+	/**
+	 * Checks the number of processes read against the number of processes
+	 * stated by the disk file.
+	 *
+	 * @param actualNo the number of processes read.
+	 * @throws Exception if both numbers are different.
+	 */
+	@Override
+	void checkProcessNo(long actualNo) throws Exception {
+		if ( processNo != actualNo )
 			throw new Exception("Number of processes number: " + processNo + ", "
 				+ "does not equal actual number of processes in the ready queue: "
-				+ readyQueue.size());
+				+ actualNo);
+	}
 
-		return readyQueue;
+	/**
+	 * Retrieves the number of processes stated by the disk file.
+	 * @return the number of processes.
+	 */
+	int getProcessNo() {
+		return processNo;
+	}
+
+	/**
+	 * Checks if the disk file asks for preemption.
+	 * @return true for preemptive, false otherwise.
+	 */
+	@Override
+	boolean isPreemptive() {
+		return preemption;
+	}
+
+	/**
+	 * Retrieves the quantum time stated by the disk file.
+	 * @return the quantum time.
+	 */
+	@Override
+	int getQuantumTime() {
+		return quantumTime;
+	}
+
+	/**
+	 * Closes the disk file.
+	 *
+	 * @throws IOException if the disk file cannot be closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		reader.close();
 	}
 
 	/**
@@ -100,7 +256,11 @@ class JobPoolParser {
 		if (reader.hasNextLine()) {
 
 			// Read the very first line on the disk file
-			processNo = Integer.parseInt(reader.nextLine());
+			// We expect a single int value
+			int[] content = new int[1];
+			if (reader.parseLine(content) != 1)
+				throw new Exception("No valid number of processes on disk file");
+			processNo = content[0];
 
 			// Error occurs if an invalid number is entered
 			if (processNo < 0)
@@ -147,10 +307,12 @@ class JobPoolParser {
 	 * 2) burst time
 	 * 3) quantum time
 	 *
-	 * @param readyQueue the queue to load the processes into.
+	 * @param collector receives the processes in file order.
+	 * @return the number of processes read.
 	 * @throws Exception if there are missing processes' attributes.
 	 */
-	private void readProcesses(ReadyQueue<PCB> readyQueue) throws Exception {
+	@Override
+	long readProcesses(ProcessCollector collector) throws Exception {
 
 		// Process ID
 		int procesdID = 1;
@@ -162,29 +324,49 @@ class JobPoolParser {
 
 		// Read the rest of the processes if there is not a next line to parse
 		while (reader.hasNextLine()) {
-			// Error could be triggered HERE
-			int currentSize = parseLine(content);
-
-			// Different ERROR could be triggered here if unexpected number of
+			// Error could be triggered HERE, also if unexpected number of
 			// processes attributes are returned
-			if (currentSize != SIZE)
-				throw new Exception("Missing process attributes on disk file: "
-					+ Arrays.toString(content));
+			reader.parseProcess(content);
 
 			// Format of line containing processes attributes
 			int arrivalTime = content[0];
 			int burstTime = content[1];
 			int priority = content[2];
 
-			// Create new Process Control Block and add it to the queue
-			PCB process = new PCB(procesdID, arrivalTime, burstTime, priority);
-
-			// Add new process to the ready queue
-			readyQueue.add(process);
+			// Hand the process over to the collector
+			collector.collect(procesdID, arrivalTime, burstTime, priority);
 
 			// Increment process id
 			procesdID++;
 		}
+
+		return procesdID - 1;
+	}
+
+	/**
+	 * Receives the processes of a disk file as they are parsed.
+	 */
+	interface ProcessCollector {
+		/**
+		 * Receives a single process.
+		 *
+		 * @param processID  the process ID, 1..n in file order.
+		 * @param arriveTime the arrive time of the process.
+		 * @param burstTime  the burst time of the process.
+		 * @param priority   the priority of the process.
+		 * @throws Exception if the process cannot be collected.
+		 */
+		void collect(int processID, int arriveTime, int burstTime, int priority)
+			throws Exception;
+	}
+
+	/**
+	 * Retrieves the position in the disk file of the next byte to parse.
+	 *
+	 * @return the position of the next byte to parse.
+	 */
+	long position() {
+		return reader.position();
 	}
 
 	/**
@@ -197,28 +379,6 @@ class JobPoolParser {
 	 * @return the current size of the array.
 	 */
 	private int parseLine(int[] content) throws Exception {
-
-		// Size of the array to fill
-		final int SIZE = content.length;
-
-		// ERROR if there is not ScheduleAlgorithm next line to parse
-		if (!reader.hasNextLine())
-			throw new Exception("Expecting to parse next line. However, "
-				+ "not next line available.");
-
-		// Next line to parse
-		String line = reader.nextLine();
-		Scanner parser = new Scanner(line);
-
-		// parse attributes on the line while not exceeding
-		// the array limitations
-		int currentSize = 0;
-		while (parser.hasNext() && currentSize < SIZE)
-			content[currentSize++] = parser.nextInt();
-
-		// close the scanner
-		parser.close();
-
-		return currentSize;
+		return reader.parseLine(content);
 	}
 }
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.zhunio.process.schedule;
+
+import com.zhunio.process.ProcessTable;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Reads a job pool from a disk file: first its header, then its processes in
+ * file order. The text {@code JobPoolParser} and the reader of binary job
+ * pools both extend it, so a job pool of either format is streamed or sorted
+ * the same way.
+ */
+abstract class JobPoolReader implements Closeable {
+
+	/**
+	 * Reads the header of the disk file, namely the number of processes and
+	 * the options regarding preemption and quantum time.
+	 *
+	 * @throws Exception if the number of processes or the options are invalid.
+	 */
+	abstract void readHeader() throws Exception;
+
+	/**
+	 * Checks if the disk file asks for preemption.
+	 * @return true for preemptive, false otherwise.
+	 */
+	abstract boolean isPreemptive();
+
+	/**
+	 * Retrieves the quantum time stated by the disk file.
+	 * @return the quantum time.
+	 */
+	abstract int getQuantumTime();
+
+	/**
+	 * Reads the processes following the header and hands them to the
+	 * collector in file order.
+	 *
+	 * @param collector receives the processes in file order.
+	 * @return the number of processes read.
+	 * @throws Exception if there are missing processes' attributes.
+	 */
+	abstract long readProcesses(JobPoolParser.ProcessCollector collector) throws Exception;
+
+	/**
+	 * Checks the number of processes read against the number of processes
+	 * stated by the disk file.
+	 *
+	 * @param actualNo the number of processes read.
+	 * @throws Exception if both numbers are different.
+	 */
+	abstract void checkProcessNo(long actualNo) throws Exception;
+
+	/**
+	 * Tells a table that is filled while it is consumed the lowest and
+	 * highest priorities of the whole job pool, if they can be found without
+	 * reading the processes. A text job pool cannot, so by default the table
+	 * is left as is.
+	 *
+	 * @param table the table the processes will be added to.
+	 * @throws IOException if the disk file cannot be read.
+	 */
+	void boundPriorities(ProcessTable table) throws IOException {
+		// Only known once every process has been read
+	}
+
+	/**
+	 * Closes the disk file.
+	 *
+	 * @throws IOException if the disk file cannot be closed.
+	 */
+	@Override
+	public abstract void close() throws IOException;
+}
@@ -1,7 +1,13 @@
 package com.zhunio.process.schedule;
 
-import com.zhunio.process.PCB;
+import com.zhunio.process.ProcessTable;
 import com.zhunio.process.queue.ReadyQueue;
+import com.zhunio.process.queue.StreamingQueue;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Created on 10/6/17.
@@ -12,6 +18,8 @@ import com.zhunio.process.queue.ReadyQueue;
  * @author Richard I. Zhunio
  */
 public class JobScheduler {
+	/* Size from which a job pool is parsed in parallel */
+	static final long PARALLEL_THRESHOLD = 64 << 20;
 
 	/* Represents the job pool residing on disk and containing all newly created
 	 * processes. Rather than being a File object, it is the path with which a File
@@ -31,17 +39,137 @@ public class JobScheduler {
 
 	/**
 	 * Load the processes from the job pool or disk file into memory. This means
-	 * loading the processes into a ready queue.
+	 * loading the processes into a ready queue. Binary job pools are
+	 * recognized by their header and memory-mapped. Uncompressed text job
+	 * pools of at least {@code PARALLEL_THRESHOLD} bytes are parsed in
+	 * parallel chunks, while compressed ones are decompressed as they are
+	 * parsed.
 	 *
 	 * @return A ready queue.
 	 */
-	public ReadyQueue<PCB> loadJobPool() throws Exception {
+	public ReadyQueue loadJobPool() throws Exception {
+
+		// Binary job pools need no parsing
+		if (BinaryJobPool.isBinary(jobPool))
+			return BinaryJobPool.load(jobPool);
 
 		// Creates a new parser to read the contents of the job pool
-		JobPoolParser parser = new JobPoolParser(jobPool);
+		JobPoolParser parser = new File(jobPool).length() >= PARALLEL_THRESHOLD
+			&& !JobPoolParser.isCompressed(jobPool)
+			? new ParallelJobPoolParser(jobPool, ForkJoinPool.commonPool())
+			: new JobPoolParser(jobPool);
 
 		// Parse the job pool and return a a ready queue
 		return parser.parse();
 
 	}
+
+	/**
+	 * Streams the processes from the job pool into a ready queue while they
+	 * are consumed. The header is read right away, and a parser thread then
+	 * feeds the processes through a bounded buffer, so the simulation can
+	 * start before the job pool has been read and memory does not grow with
+	 * its size. The processes of the job pool must be sorted by arrive time.
+	 * Errors of the parser thread surface from the ready queue once the
+	 * simulation reaches them. Binary job pools are read from their
+	 * memory-mapped records the same way.
+	 *
+	 * @return A ready queue filled while it is consumed.
+	 * @throws Exception if the header of the job pool is invalid.
+	 */
+	public ReadyQueue streamJobPool() throws Exception {
+		return streamJobPool((reader, processes) -> {
+			long processNo = reader.readProcesses(processes::put);
+
+			reader.checkProcessNo(processNo);
+		});
+	}
+
+	/**
+	 * Sorts the processes from the job pool by arrive time with an external
+	 * merge sort, and streams them into a ready queue while they are consumed.
+	 * Sorted runs of the job pool are spilled to temporary files in
+	 * {@code java.io.tmpdir} and merged, so job pools larger than the heap
+	 * can be scheduled with bounded memory. Binary job pools are read from
+	 * their memory-mapped records the same way.
+	 *
+	 * @return A ready queue filled while it is consumed.
+	 * @throws Exception if the header of the job pool is invalid.
+	 */
+	public ReadyQueue sortJobPool() throws Exception {
+		Path directory = Paths.get(System.getProperty("java.io.tmpdir"));
+
+		return streamJobPool((reader, processes) ->
+			new ExternalJobPoolSorter(directory, ExternalJobPoolSorter.RUN_SIZE)
+				.sort(reader, processes));
+	}
+
+	/**
+	 * Reads the header of the job pool and starts a parser thread that feeds
+	 * the processes into a ready queue backed by a streaming queue.
+	 *
+	 * @param feeder puts the processes into the ready queue.
+	 * @return A ready queue filled while it is consumed.
+	 * @throws Exception if the header of the job pool is invalid.
+	 */
+	private ReadyQueue streamJobPool(Feeder feeder) throws Exception {
+
+		// Binary job pools are read from their records, text ones are parsed
+		JobPoolReader reader = BinaryJobPool.isBinary(jobPool)
+			? new BinaryJobPool.Reader(jobPool) : new JobPoolParser(jobPool);
+		// Rows of finished processes are reused, so the table stays small
+		ProcessTable table = new ProcessTable(1024, true);
+		StreamingQueue processes = new StreamingQueue(table);
+		ReadyQueue readyQueue;
+
+		try {
+			reader.readHeader();
+			reader.boundPriorities(table);
+			readyQueue = new ReadyQueue(reader.isPreemptive(),
+				reader.getQuantumTime(), table, processes);
+		} catch (Exception e) {
+			reader.close();
+			throw e;
+		}
+
+		// Parse the processes on their own thread
+		Thread producer = new Thread(() -> {
+			try {
+				feeder.feed(reader, processes);
+				processes.finish();
+			} catch (Exception e) {
+				try {
+					processes.fail(e);
+				} catch (InterruptedException ignored) {
+					Thread.currentThread().interrupt();
+				}
+			} finally {
+				try {
+					reader.close();
+				} catch (Exception ignored) {
+					// Nothing left to read
+				}
+			}
+		}, "job-pool-parser");
+
+		producer.setDaemon(true);
+		producer.start();
+
+		return readyQueue;
+	}
+
+	/**
+	 * Puts the processes of a job pool whose header has been read into a
+	 * streaming queue.
+	 */
+	private interface Feeder {
+		/**
+		 * Puts every process of the job pool into the streaming queue.
+		 *
+		 * @param reader    the reader of the job pool.
+		 * @param processes the queue receiving the processes.
+		 * @throws Exception if the job pool is invalid.
+		 */
+		void feed(JobPoolReader reader, StreamingQueue processes) throws Exception;
+	}
 }
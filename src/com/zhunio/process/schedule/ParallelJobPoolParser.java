@@ -0,0 +1,223 @@
+package com.zhunio.process.schedule;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Created on 10/17/26.
+ *
+ * A {@code JobPoolParser} that parses the processes of a large disk file in
+ * parallel. The header is parsed as usual. The rest of the file is split into
+ * chunks at newline boundaries, and each chunk is memory-mapped and parsed on
+ * a {@code ForkJoinPool}. Process IDs come from a prefix sum of the number of
+ * lines in each chunk, so they are 1..n in file order exactly as the
+ * sequential parser assigns them.
+ */
+class ParallelJobPoolParser extends JobPoolParser {
+	/* Size of the chunks the processes of the disk file are split into */
+	private static final long CHUNK_SIZE = 8 << 20;
+
+	/* Path to the disk file */
+	private String file;
+
+	/* Pool parsing the chunks */
+	private ForkJoinPool pool;
+
+	/**
+	 * Creates a new parser that parses the processes of the disk file on the
+	 * given pool.
+	 *
+	 * @param file the file to read.
+	 * @param pool the pool parsing the chunks.
+	 * @throws IOException if file is not found or cannot be read.
+	 */
+	ParallelJobPoolParser(String file, ForkJoinPool pool) throws IOException {
+		super(file);
+		this.file = file;
+		this.pool = pool;
+	}
+
+	/**
+	 * Parses the processes following the header in parallel chunks and hands
+	 * them to the collector in file order.
+	 *
+	 * @param collector receives the processes in file order.
+	 * @return the number of processes read.
+	 * @throws Exception if there are missing processes' attributes.
+	 */
+	@Override
+	long readProcesses(ProcessCollector collector) throws Exception {
+
+		try (FileChannel channel = new RandomAccessFile(file, "r").getChannel()) {
+
+			// Split the processes at newline boundaries
+			List<Chunk> chunks = split(channel, position(), channel.size());
+
+			// Parse every chunk
+			pool.invoke(ForkJoinTask.adapt(() -> {
+				ForkJoinTask.invokeAll(chunks);
+			}));
+
+			// Report the first error in file order
+			for (Chunk chunk : chunks)
+				if (chunk.error != null)
+					throw chunk.error;
+
+			// Assign the process IDs from a prefix sum of the line counts. Each
+			// chunk is freed once copied, so the chunks and the collector do
+			// not both hold the whole job pool
+			int processID = 1;
+			for (Chunk chunk : chunks) {
+				for (int i = 0; i < chunk.count; i++)
+					collector.collect(processID + i, chunk.arriveTimes[i],
+						chunk.burstTimes[i], chunk.priorities[i]);
+
+				processID += chunk.count;
+				chunk.release();
+			}
+
+			return processID - 1;
+		}
+	}
+
+	/**
+	 * Splits the region of the disk file between {@code start} and
+	 * {@code end} into chunks. Every chunk but the last ends right after a
+	 * newline.
+	 *
+	 * @param channel the channel of the disk file.
+	 * @param start   the position of the first process.
+	 * @param end     the size of the disk file.
+	 * @return the chunks in file order.
+	 * @throws IOException if the disk file cannot be read.
+	 */
+	private List<Chunk> split(FileChannel channel, long start, long end)
+		throws IOException {
+
+		List<Chunk> chunks = new ArrayList<>();
+		ByteBuffer probe = ByteBuffer.allocate(4096);
+
+		while (start < end) {
+			long boundary = Math.min(end, start + CHUNK_SIZE);
+
+			// Move the boundary past the end of the line it falls on
+			while (boundary < end) {
+				probe.clear();
+				int read = channel.read(probe, boundary - 1);
+				int newline = -1;
+				for (int i = 0; i < read && newline < 0; i++)
+					if (probe.get(i) == '\n')
+						newline = i;
+
+				if (newline >= 0) {
+					boundary += newline;
+					break;
+				}
+				boundary = Math.min(end, boundary + read);
+			}
+
+			chunks.add(new Chunk(channel, start, boundary));
+			start = boundary;
+		}
+
+		return chunks;
+	}
+
+	/**
+	 * A {@code Chunk} is a range of whole lines of the disk file. Once
+	 * computed, it holds the attributes of the processes on those lines.
+	 */
+	static class Chunk extends RecursiveAction {
+		/* Version of the serialized form inherited from ForkJoinTask */
+		private static final long serialVersionUID = 1L;
+
+		/* The channel of the disk file */
+		private FileChannel channel;
+
+		/* Position of the first byte of this chunk */
+		private long start;
+
+		/* Position past the last byte of this chunk */
+		private long end;
+
+		/* Number of processes in this chunk */
+		int count;
+
+		/* Attributes of the processes in this chunk */
+		int[] arriveTimes;
+		int[] burstTimes;
+		int[] priorities;
+
+		/* Error found while parsing this chunk, if any */
+		Exception error;
+
+		/**
+		 * Creates a new {@code Chunk}.
+		 *
+		 * @param channel the channel of the disk file.
+		 * @param start   the position of the first byte of this chunk.
+		 * @param end     the position past the last byte of this chunk.
+		 */
+		Chunk(FileChannel channel, long start, long end) {
+			this.channel = channel;
+			this.start = start;
+			this.end = end;
+		}
+
+		/**
+		 * Frees the attributes of the processes once they are copied.
+		 */
+		void release() {
+			arriveTimes = null;
+			burstTimes = null;
+			priorities = null;
+		}
+
+		/**
+		 * Parses the lines of this chunk.
+		 */
+		@Override
+		protected void compute() {
+			try {
+				ByteLineReader reader = new ByteLineReader(
+					channel.map(FileChannel.MapMode.READ_ONLY, start, end - start), start);
+
+				// Expect roughly one process every 8 bytes
+				int capacity = (int) Math.max(16, (end - start) / 8);
+				arriveTimes = new int[capacity];
+				burstTimes = new int[capacity];
+				priorities = new int[capacity];
+
+				// Content array size.
+				// We expect three attributes
+				final int SIZE = 3;
+				int[] content = new int[SIZE];
+
+				while (reader.hasNextLine()) {
+					reader.parseProcess(content);
+
+					if (count == arriveTimes.length) {
+						arriveTimes = Arrays.copyOf(arriveTimes, count * 2);
+						burstTimes = Arrays.copyOf(burstTimes, count * 2);
+						priorities = Arrays.copyOf(priorities, count * 2);
+					}
+
+					arriveTimes[count] = content[0];
+					burstTimes[count] = content[1];
+					priorities[count] = content[2];
+					count++;
+				}
+			} catch (Exception e) {
+				error = e;
+			}
+		}
+	}
+}
@@ -0,0 +1,88 @@
+package com.zhunio.process.schedule;
+
+import com.zhunio.process.ProcessTable;
+import com.zhunio.process.queue.HandleHeap;
+import com.zhunio.process.queue.HandleKey;
+import com.zhunio.process.queue.ReadyQueue;
+import com.zhunio.process.queue.SortedHandleQueue;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Collects the processes of a job pool into a {@code ProcessTable} and builds
+ * the {@code ReadyQueue} that suits them. While collecting, it checks whether
+ * the processes come in order of arrive time. If they do, the
+ * {@code ReadyQueue} is backed by a {@code SortedHandleQueue} that hands them
+ * out in O(1) without even an array of handles; otherwise the handles are
+ * heapified into a {@code HandleHeap}. Both yield the processes in the same
+ * order.
+ */
+class ReadyQueueBuilder implements JobPoolParser.ProcessCollector {
+	/* Whether the ready queue is preemptive */
+	private boolean preemption;
+
+	/* Quantum time of the ready queue */
+	private int quantumTime;
+
+	/* Processes collected so far, in job pool order */
+	private ProcessTable table;
+
+	/* Whether the processes collected so far are sorted */
+	private boolean sorted;
+
+	/**
+	 * Creates a new {@code ReadyQueueBuilder}.
+	 *
+	 * @param preemption    true for preemptive, false otherwise.
+	 * @param quantumTime   the quantum time.
+	 * @param expectedCount the number of processes the job pool states.
+	 */
+	ReadyQueueBuilder(boolean preemption, int quantumTime, int expectedCount) {
+		this.preemption = preemption;
+		this.quantumTime = quantumTime;
+		this.table = new ProcessTable(Math.max(16, Math.min(expectedCount, 1 << 20)));
+		this.sorted = true;
+	}
+
+	@Override
+	public void collect(int processID, int arriveTime, int burstTime, int priority) {
+		int handle = table.add(processID, arriveTime, burstTime, priority);
+
+		// Check if the process keeps the order of the previous one
+		if (sorted && handle > 0 && table.compareArrival(handle - 1, handle) > 0)
+			sorted = false;
+	}
+
+	/**
+	 * Retrieves the number of processes collected.
+	 * @return the number of processes collected.
+	 */
+	int size() {
+		return table.size();
+	}
+
+	/**
+	 * Builds the ready queue holding the collected processes.
+	 * @return A {@code ReadyQueue} backed by a {@code SortedHandleQueue} if the
+	 * processes came sorted, by a heap otherwise.
+	 */
+	ReadyQueue build() {
+		int count = table.size();
+
+		if (sorted)
+			return new ReadyQueue(preemption, quantumTime, table,
+				new SortedHandleQueue(count));
+
+		// Heapify the handles at once, which takes O(n)
+		HandleKey key = ReadyQueue.arrivalKey(table);
+		int[] handles = new int[count];
+		long[] keys = new long[count];
+		for (int i = 0; i < count; i++) {
+			handles[i] = i;
+			keys[i] = key.key(i);
+		}
+
+		return new ReadyQueue(preemption, quantumTime, table,
+			new HandleHeap(key, handles, keys, count));
+	}
+}
@@ -1,7 +1,8 @@
 package com.zhunio.process.schedule;
 
-import com.zhunio.process.PCB;
 import com.zhunio.process.queue.ReadyQueue;
+import com.zhunio.process.schedule.gantt.GanttSink;
+import com.zhunio.process.schedule.gantt.ListGanttSink;
 import com.zhunio.process.schedule.algorithm.FCFS;
 import com.zhunio.process.schedule.algorithm.P_PL;
 
@@ -14,8 +15,10 @@ import java.util.List;
  * required steps may vary accordingly to the specific implementation of the
  * {@code ScheduleAlgorithm}. However, each implementation should always
  * yield the same result for the same {@code ScheduleAlgorithm}. Different
- * {@code ScheduleAlgorithm}s will yield different results. A {@code List} is
- * returned with the performed steps in sequence.
+ * {@code ScheduleAlgorithm}s will yield different results. The performed
+ * steps are emitted in sequence into a {@code GanttSink}, or returned as a
+ * {@code List}. Implementations drive the {@code SimulationKernel} through an
+ * {@code EventHandler}.
  *
  * @author Richard I. Zhunio
  */
@@ -38,7 +41,34 @@ public interface ScheduleAlgorithm {
 	 * @return a {@code List} containing the sequential steps in which {@code PCB}s
 	 * visited the CPU.
 	 */
-	List<String> run(ReadyQueue<PCB> readyQueue);
+	default List<String> run(ReadyQueue readyQueue) {
+		ListGanttSink sink = new ListGanttSink();
+		run(readyQueue, sink);
+
+		return sink.getLines();
+	}
+
+	/**
+	 * Executes the required steps in this schedule algorithm, emitting each
+	 * time a process visits the CPU into the given {@code GanttSink} as soon
+	 * as it is known. The sink is not closed.
+	 *
+	 * @param readyQueue the {@code ReadyQueue} that contains the processes
+	 *                   ready to be executed.
+	 * @param sink       receives the sequential steps in which processes
+	 *                   visited the CPU.
+	 */
+	void run(ReadyQueue readyQueue, GanttSink sink);
+
+	/**
+	 * Retrieves the name of this schedule algorithm, as accepted by
+	 * {@code generate}.
+	 *
+	 * @return the name of this schedule algorithm.
+	 */
+	default String getName() {
+		return getClass().getSimpleName();
+	}
 
 	/**
 	 * Generates a new {@code ScheduleAlgorithm} based on a string.
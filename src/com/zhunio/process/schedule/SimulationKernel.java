@@ -0,0 +1,189 @@
+package com.zhunio.process.schedule;
+
+import com.zhunio.process.ProcessTable;
+import com.zhunio.process.queue.ReadyQueue;
+import com.zhunio.process.schedule.stats.SchedulerStats;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Discrete-event simulation kernel shared by the {@code ScheduleAlgorithm}s.
+ * Arrivals are taken straight from the {@code ReadyQueue}, which is sorted by
+ * arrive time, while quantum expiries and completions are scheduled by the
+ * {@code EventHandler}. There is a single CPU, so at most one expiry or
+ * completion is ever pending, and it is kept in plain fields rather than in
+ * an object of its own. Processes are referred to by their handles in the
+ * {@code ProcessTable} of the {@code ReadyQueue}; the handle of a process is
+ * released once its completion has been handled. The clock jumps straight
+ * from one event to the next, so the cost of a simulation depends on the
+ * number of events and not on the length of the simulated time.
+ */
+public class SimulationKernel {
+	/* Processes that have not arrived yet, sorted by arrive time */
+	private ReadyQueue readyQueue;
+
+	/* Table storing the processes */
+	private ProcessTable table;
+
+	/* Pending quantum expiry or completion, null if none is pending */
+	private Event pending;
+
+	/* Time at which the pending event happens */
+	private int pendingTime;
+
+	/* Handle of the process the pending event concerns */
+	private int pendingProcess;
+
+	/* Current time of the simulation */
+	private int clock;
+
+	/**
+	 * Creates a new {@code SimulationKernel} whose arrivals come from the
+	 * given {@code ReadyQueue}.
+	 *
+	 * @param readyQueue the processes to simulate.
+	 */
+	public SimulationKernel(ReadyQueue readyQueue) {
+		this.readyQueue = readyQueue;
+		this.table = readyQueue.getProcessTable();
+		this.pending = null;
+		this.clock = 0;
+	}
+
+	/**
+	 * Runs the simulation until there are no arrivals and no pending events
+	 * left.
+	 *
+	 * @param handler the handler receiving the events.
+	 */
+	public void run(EventHandler handler) {
+
+		while (true) {
+
+			// Deliver every arrival happening now
+			while (!readyQueue.isEmpty() && table.getArriveTime(readyQueue.peek()) <= clock) {
+				handler.handle(Event.ARRIVAL, readyQueue.poll(), this);
+
+				if (SchedulerStats.ENABLED)
+					SchedulerStats.event();
+			}
+
+			// Deliver the expiry or completion happening now, the handler may
+			// schedule the next one while handling it
+			while (pending != null && pendingTime <= clock) {
+				Event event = pending;
+				int process = pendingProcess;
+				pending = null;
+
+				handler.handle(event, process, this);
+
+				if (SchedulerStats.ENABLED)
+					SchedulerStats.event();
+
+				// The process is done with once it completes
+				if (event == Event.COMPLETION && process != ProcessTable.NO_PROCESS)
+					table.release(process);
+			}
+
+			// Let the handler decide what the CPU does next
+			handler.dispatch(this);
+
+			// Stop once nothing is left to happen
+			if (readyQueue.isEmpty() && pending == null)
+				break;
+
+			// Jump to the time of the next event
+			int next = nextEventTime();
+			if (SchedulerStats.ENABLED)
+				SchedulerStats.advanced(next - clock);
+			clock = next;
+		}
+	}
+
+	/**
+	 * Schedules the next quantum expiry or completion, at or after the
+	 * current time. Only one can be pending, as there is a single CPU.
+	 *
+	 * @param event   the type of the event.
+	 * @param time    the time at which the event happens.
+	 * @param process the handle of the process the event concerns,
+	 *                {@code ProcessTable.NO_PROCESS} for an idle CPU.
+	 * @throws IllegalArgumentException if the event is an arrival, or happens
+	 *                                  before the current time.
+	 * @throws IllegalStateException    if another event is still pending.
+	 */
+	public void schedule(Event event, int time, int process) {
+		if (event == Event.ARRIVAL)
+			throw new IllegalArgumentException("Arrivals come from the ready queue");
+		if (time < clock)
+			throw new IllegalArgumentException("Cannot schedule " + event
+				+ " at " + time + " before current time " + clock);
+		if (pending != null)
+			throw new IllegalStateException("Cannot schedule " + event + " at " + time
+				+ ", " + pending + " at " + pendingTime + " is still pending");
+
+		pending = event;
+		pendingTime = time;
+		pendingProcess = process;
+	}
+
+	/**
+	 * Retrieves the current time of the simulation.
+	 * @return the current time of the simulation.
+	 */
+	public int now() {
+		return clock;
+	}
+
+	/**
+	 * Retrieves the table storing the processes.
+	 * @return the table storing the processes.
+	 */
+	public ProcessTable getProcessTable() {
+		return table;
+	}
+
+	/**
+	 * Checks if there are processes that have not arrived yet.
+	 * @return true if more processes will arrive.
+	 */
+	public boolean hasPendingArrivals() {
+		return !readyQueue.isEmpty();
+	}
+
+	/**
+	 * Takes the next process to arrive out of the ready queue, ahead of its
+	 * arrive time and without delivering its arrival. Only valid while
+	 * {@link #hasPendingArrivals()} is true.
+	 *
+	 * @return the handle of the next process to arrive.
+	 */
+	public int takeArrival() {
+		return readyQueue.poll();
+	}
+
+	/**
+	 * Retrieves the arrive time of the next process to arrive.
+	 * @return the arrive time of the next process, or
+	 * {@code Integer.MAX_VALUE} if no process is left to arrive.
+	 */
+	public int nextArrivalTime() {
+		return readyQueue.isEmpty() ? Integer.MAX_VALUE
+			: Math.max(clock, table.getArriveTime(readyQueue.peek()));
+	}
+
+	/**
+	 * Calculates the time of the next arrival or scheduled event, whichever
+	 * comes first.
+	 *
+	 * @return the time of the next event.
+	 */
+	private int nextEventTime() {
+		int next = nextArrivalTime();
+
+		if (pending != null)
+			next = Math.min(next, pendingTime);
+
+		return next;
+	}
+}
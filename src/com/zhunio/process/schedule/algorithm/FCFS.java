@@ -1,11 +1,16 @@
 package com.zhunio.process.schedule.algorithm;
 
-import com.zhunio.process.PCB;
+import com.zhunio.process.ProcessTable;
+import com.zhunio.process.queue.FifoHandleQueue;
+import com.zhunio.process.queue.HandleQueue;
 import com.zhunio.process.queue.ReadyQueue;
+import com.zhunio.process.schedule.Event;
+import com.zhunio.process.schedule.EventHandler;
 import com.zhunio.process.schedule.ScheduleAlgorithm;
+import com.zhunio.process.schedule.SimulationKernel;
+import com.zhunio.process.schedule.gantt.GanttSink;
+import com.zhunio.process.schedule.stats.SchedulerStats;
 
-import java.util.ArrayList;
-import java.util.List;
 
 /**
  * Created on 10/15/17.
@@ -20,83 +25,141 @@ public class FCFS implements ScheduleAlgorithm {
 	/**
 	 * Runs the {@code ScheduleAlgorithm} using the following
 	 * ready queue. Its implementation is obscured to the user.
-	 * However, the {@code List} will show the order in which
+	 * However, the {@code GanttSink} will receive the order in which
 	 * processes visited the {@code CPU}.
 	 *
 	 * @param readyQueue the ready queue containing the processes to be
 	 *                   executed by the {@code CPU}.
-	 * @return a {@code List} containing the order in which
-	 * processes visited the {@code CPU}.
+	 * @param sink       receives the order in which processes visited the
+	 *                   {@code CPU}.
 	 */
 	@Override
-	public List<String> run(ReadyQueue<PCB> readyQueue) {
-
-		// Create new CPU
-		CPU cpu = new CPU();
-
-		// Set the timeline of cpu utilization
-		// The timeline represents the Gant chart
-		int timeline = 0;
-
-		// Logger for tracking which processes go into the CPU first
-		Logger logger = new Logger();
-
-		while (!readyQueue.isEmpty()) {
-
-			// Select the next process to execute in the CPU
-			PCB process = select(readyQueue);
-
-			// Execute the process in the CPU and obtain the amount of time
-			// that process spent in the CPU
-			int processedTime = cpu.compute(process);
-
-			// Calculate start time of the processed
-			int start = timeline;
-			// Calculate end time of the processed
-			int end = start + processedTime;
-
-			// Add process to the log
-			logger.add(start + " " + end + " P" + process.getProcessID());
+	public void run(ReadyQueue readyQueue, GanttSink sink) {
 
-			// Update the timeline
-			timeline = end;
-		}
-
-		return logger;
+		// Simulate the ready queue with this algorithm deciding which process
+		// visits the CPU
+		new SimulationKernel(readyQueue).run(
+			new Dispatcher(readyQueue.getProcessTable(), sink));
 	}
 
 	/**
-	 * Selects a process from the {@code ReadyQueue} obeying the policies
+	 * Selects a process from the arrived processes obeying the policies
 	 * for the First Come First Served {@code FCFS} algorithm.
-	 * @param readyQueue the {@code ReadyQueue} containing the processes
-	 *                   ready to be executed.
-	 * @return a single {@code PCB} (process) that must be executed next
+	 * @param table        the table storing the processes.
+	 * @param arrivedQueue the processes that arrived, in order of arrival.
+	 * @return the handle of a single process that must be executed next
 	 * according to the {@code FCFS} algorithm policy.
 	 */
-	private PCB select(ReadyQueue<? extends PCB> readyQueue) {
+	private int select(ProcessTable table, HandleQueue arrivedQueue) {
 
 		// Select the next process whom arrived the earliest
-		// The ready queue sorts PCB according to their arrive time
-		PCB process = readyQueue.poll();
+		int process = arrivedQueue.poll();
+		if (SchedulerStats.ENABLED)
+			SchedulerStats.polled();
 
 		// Set the cpu time utilization to the burst time
-		process.setCpuTime( process.getBurstTime() );
+		table.setCpuTime( process, table.getBurstTime(process) );
 
 		return process;
 	}
 
 	/**
-	 * The {@code Logger} represents the amount of time each process spends
-	 * on the gant chart.
+	 * The {@code Dispatcher} plugs the {@code FCFS} policy into the
+	 * {@code SimulationKernel}. Arrived processes wait in order of arrival and
+	 * each one keeps the CPU until it completes.
 	 */
-	class Logger extends ArrayList<String> {
+	class Dispatcher implements EventHandler {
+		/* Table storing the processes */
+		private ProcessTable table;
+
+		/* Processes that arrived and are waiting for the CPU */
+		private HandleQueue arrivedQueue;
+
+		/* Sink tracking which processes go into the CPU first */
+		private GanttSink sink;
+
+		/* The CPU */
+		private CPU cpu;
+
+		/* Whether the CPU is running a process */
+		private boolean busy;
+
 		/**
-		 * Create a new {@code Logger}.
+		 * Creates a new {@code Dispatcher}.
+		 *
+		 * @param table  the table storing the processes.
+		 * @param sink   the sink receiving the gantt chart.
 		 */
-		Logger() {
-			super();
+		Dispatcher(ProcessTable table, GanttSink sink) {
+			this.table = table;
+			this.arrivedQueue = new FifoHandleQueue();
+			this.sink = sink;
+			this.cpu = new CPU(table);
+		}
+
+		@Override
+		public void handle(Event event, int process, SimulationKernel kernel) {
+			switch (event) {
+				case ARRIVAL:
+					arrivedQueue.add(process);
+					if (SchedulerStats.ENABLED)
+						SchedulerStats.inserted(arrivedQueue.size());
+					break;
+				case COMPLETION:
+					sink.complete(table.getProcessID(process),
+						table.getArriveTime(process),
+						table.getBurstTime(process), kernel.now());
+					busy = false;
+					break;
+				case QUANTUM_EXPIRY:
+					busy = false;
+					break;
+			}
+		}
+
+		@Override
+		public void dispatch(SimulationKernel kernel) {
+
+			// The CPU is in use
+			if (busy)
+				return;
+
+			// No process is waiting nor left to arrive
+			if (arrivedQueue.isEmpty() && !kernel.hasPendingArrivals())
+				return;
+
+			// With none waiting the next process to arrive is taken, the CPU
+			// idles until it arrives
+			if (arrivedQueue.isEmpty())
+				arrivedQueue.add(kernel.takeArrival());
+
+			// Select the next process to execute in the CPU
+			int process = select(table, arrivedQueue);
+
+			// Execute the process in the CPU and obtain the amount of time
+			// that process spent in the CPU
+			int processedTime = cpu.compute(process);
+
+			// Calculate start time of the processed, no earlier than its
+			// arrival
+			int start = Math.max(kernel.now(), table.getArriveTime(process));
+			if (SchedulerStats.ENABLED && start > kernel.now())
+				SchedulerStats.idled();
+			// Calculate end time of the processed
+			int end = start + processedTime;
+
+			// Add process to the gantt chart
+			sink.emit(start, end, table.getProcessID(process), table.getPriority(process));
+
+			// The process releases the CPU once it completes
+			kernel.schedule(Event.COMPLETION, end, process);
+			busy = true;
+
+			if (SchedulerStats.ENABLED)
+				SchedulerStats.dispatched();
 		}
 	}
+
 	/**
 	 * Created on 10/15/17.
 	 *
@@ -105,13 +168,24 @@ public class FCFS implements ScheduleAlgorithm {
 	 * @author Richard I. Zhunio
 	 */
 	class CPU {
+		/* Table storing the processes */
+		private ProcessTable table;
+
+		/**
+		 * Create a new {@code CPU}.
+		 * @param table the table storing the processes.
+		 */
+		CPU(ProcessTable table) {
+			this.table = table;
+		}
+
 		/**
-		 * Compute a single {@code PCB} (process).
-		 * @param process the {@code PCB} to compute.
+		 * Compute a single process.
+		 * @param process the handle of the process to compute.
 		 * @return the {@code CPU} time utilization by the given process.
 		 */
-		int compute(PCB process) {
-			return process.getCpuTime();
+		int compute(int process) {
+			return table.getCpuTime(process);
 		}
 	}
 }
@@ -1,11 +1,21 @@
 package com.zhunio.process.schedule.algorithm;
 
-import com.zhunio.process.PCB;
+import com.zhunio.process.ProcessTable;
+import com.zhunio.process.queue.HandleHeap;
+import com.zhunio.process.queue.HandleKey;
+import com.zhunio.process.queue.PriorityBuckets;
 import com.zhunio.process.queue.ReadyQueue;
+import com.zhunio.process.schedule.Event;
+import com.zhunio.process.schedule.EventHandler;
 import com.zhunio.process.schedule.ScheduleAlgorithm;
+import com.zhunio.process.schedule.SimulationKernel;
+import com.zhunio.process.schedule.gantt.GanttSink;
+import com.zhunio.process.schedule.jfr.DispatchEvent;
+import com.zhunio.process.schedule.jfr.SelectionEvent;
+import com.zhunio.process.schedule.stats.SchedulerStats;
+import jdk.jfr.FlightRecorder;
 
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.Arrays;
 
 /**
  * Created on 10/19/17.
@@ -13,200 +23,704 @@ import java.util.stream.Collectors;
  * Performs the Preemptive Low Priority {@code ScheduleAlgorithm}. We use
  * the term lowest priority to mean that the process with the lowest priority
  * has a higher priority compared to a process with a higher priority.
+ * <p>
+ * Optionally, waiting processes age: every time the clock passes a multiple
+ * of {@code agingInterval}, the priority of every waiting process is lowered
+ * by {@code agingStep}, down to the lowest priority of the job pool, so
+ * processes with a high priority number are not starved. A process gets its
+ * own priority back once it runs.
  *
  * @author Richard I. Zhunio
  */
 public class P_PL implements ScheduleAlgorithm {
+	/* Time between two agings, 0 for no aging */
+	private int agingInterval;
+
+	/* Amount the priority of a process is lowered each time it ages */
+	private int agingStep;
 
 	/**
-	 * Creates a new remaining queue used to hold temporary processes that
-	 * have been removed from the ready queue but have had a lowest priority
-	 * than the current process executing
+	 * Creates a new {@code P_PL} that emits one gant entry per quantum.
 	 */
-	private PriorityQueue<PCB> newRemainingQueue() {
+	public P_PL() {
+		this(0, 0);
+	}
 
-		// Comparator for sorting low priorities first
-		Comparator<PCB> byLowestPriority =
-			(p1, p2) -> new Integer(p1.getPriority()).compareTo(p2.getPriority());
+	/**
+	 * Creates a new {@code P_PL} whose waiting processes age.
+	 *
+	 * @param agingInterval the time between two agings, 0 for no
+	 *                      aging.
+	 * @param agingStep     the amount the priority of a process is lowered
+	 *                      each time it ages.
+	 */
+	public P_PL(int agingInterval, int agingStep) {
+		setAging(agingInterval, agingStep);
+	}
+
+	/**
+	 * Sets how waiting processes age.
+	 *
+	 * @param agingInterval the time between two agings, 0 for no
+	 *                      aging.
+	 * @param agingStep     the amount the priority of a process is lowered
+	 *                      each time it ages.
+	 */
+	public void setAging(int agingInterval, int agingStep) {
+		if (agingInterval < 0 || agingStep < 0 || (agingInterval > 0 && agingStep == 0))
+			throw new IllegalArgumentException("Invalid aging interval " + agingInterval
+				+ " and step " + agingStep);
 
-		return new PriorityQueue<>(byLowestPriority);
+		this.agingInterval = agingInterval;
+		this.agingStep = agingStep;
 	}
 
+	/**
+	 * {@inheritDoc}
+	 *
+	 * @throws IllegalArgumentException if processes age and the ready queue
+	 *                                  is filled while it is consumed from a
+	 *                                  text job pool, as the lowest priority
+	 *                                  of the job pool, which they age down
+	 *                                  to, is not known yet.
+	 */
 	@Override
-	public List<String> run(ReadyQueue<PCB> readyQueue) {
+	public void run(ReadyQueue readyQueue, GanttSink sink) {
+		if (agingInterval > 0 && !readyQueue.getProcessTable().knowsPriorityBounds())
+			throw new IllegalArgumentException("Aging needs the lowest priority of the whole"
+				+ " job pool, which is not known while it is streamed");
+
+		// Simulate the ready queue with this algorithm deciding which process
+		// visits the CPU, emitting the gant chart as it goes
+		Dispatcher dispatcher = new Dispatcher(readyQueue.getProcessTable(),
+			readyQueue.getQuantumTime(), sink);
+		new SimulationKernel(readyQueue).run(dispatcher);
+		dispatcher.finish();
+	}
+
+	/**
+	 * Selects the process with the lowest priority among the processes
+	 * that already arrived. Every process enters the {@code WaitingQueue}
+	 * exactly once per wait, so a selection costs O(log n).
+	 *
+	 * @param arrivedQueue the processes that already arrived.
+	 * @return The handle of the process with the lowest priority, or
+	 * {@code ProcessTable.NO_PROCESS} if no process is waiting for the CPU.
+	 */
+	private int selectLowest(WaitingQueue arrivedQueue) {
+
+		// Retrieve the process that has the lowest priority
+		int process = arrivedQueue.poll();
+		if (SchedulerStats.ENABLED && process != ProcessTable.NO_PROCESS)
+			SchedulerStats.polled();
+
+		return process;
+	}
+
+	/**
+	 * Checks if the process has finished execution
+	 *
+	 * @param table   the table storing the process
+	 * @param process the handle of the procces
+	 * @return true if it has finish execution
+	 */
+	private boolean isFinished(ProcessTable table, int process) {
+		return table.getBurstTime(process) == table.getCpuTime(process);
+	}
+
+	/**
+	 * The {@code Dispatcher} plugs the {@code P_PL} policy into the
+	 * {@code SimulationKernel}. A process keeps the CPU for at most one
+	 * quantum, after which the process with the lowest priority among the
+	 * arrived ones is selected. When no process is waiting the CPU idles in
+	 * whole quanta until the next process arrives.
+	 */
+	class Dispatcher implements EventHandler {
+		/* Table storing the processes */
+		private ProcessTable table;
 
-		// Create remaining queue
-		PriorityQueue<PCB> remainingQueue = newRemainingQueue();
+		/* Processes that arrived and are waiting for the CPU */
+		private WaitingQueue arrivedQueue;
 
-		// Create the gant chart
-		LinkedList<GantEntry> gantChart = new LinkedList<>();
+		/* Quantum time of the ready queue */
+		private int quantum;
 
-		// Initialize the timeline of the gant chart
-		int timeline = 0;
+		/* Receives the gant chart */
+		private GanttSink sink;
 
-		// Retrieve quantum time
-		int quantum = readyQueue.getQuantumTime();
+		/* Whether the CPU is running a process or idling a quantum */
+		private boolean busy;
 
-		// While the ready queue is not empty
-		while (!readyQueue.isEmpty() || !remainingQueue.isEmpty()) {
+		/* Flight Recorder event of the selections, null unless it runs */
+		private SelectionEvent selection;
+
+		/* Whether selections are timed for Flight Recorder */
+		private boolean timed;
+
+		/* Dispatches left until one is recorded for Flight Recorder */
+		private int untilSample;
+
+		/**
+		 * Creates a new {@code Dispatcher}.
+		 *
+		 * @param table     the table storing the processes.
+		 * @param quantum   the quantum time.
+		 * @param sink      the sink receiving the gant chart.
+		 */
+		Dispatcher(ProcessTable table, int quantum, GanttSink sink) {
+			this.table = table;
+			this.arrivedQueue = agingInterval > 0
+				? new AgingQueue(table, agingInterval, agingStep)
+				: new ArrivedQueue(table, true);
+			this.quantum = quantum;
+			this.sink = sink;
+
+			// Read the clock around selections only while they are recorded
+			if (FlightRecorder.isInitialized()) {
+				this.selection = new SelectionEvent();
+				this.selection.begin();
+				this.timed = selection.isEnabled()
+					|| (DispatchEvent.SAMPLE_INTERVAL > 0 && new DispatchEvent().isEnabled());
+				this.untilSample = DispatchEvent.SAMPLE_INTERVAL;
+			}
+		}
+
+		@Override
+		public void handle(Event event, int process, SimulationKernel kernel) {
+			switch (event) {
+				case ARRIVAL:
+					requeue(process, kernel.now());
+					break;
+				case QUANTUM_EXPIRY:
+					// Arrivals at this time were already delivered, so among
+					// equal priorities they are served before the preempted
+					// process
+					if (process != ProcessTable.NO_PROCESS) {
+						requeue(process, kernel.now());
+						if (SchedulerStats.ENABLED)
+							SchedulerStats.preempted();
+					}
+					busy = false;
+					break;
+				case COMPLETION:
+					sink.complete(table.getProcessID(process),
+						table.getArriveTime(process),
+						table.getBurstTime(process), kernel.now());
+					busy = false;
+					break;
+			}
+		}
+
+		/**
+		 * Puts a process back among the processes waiting for the CPU.
+		 *
+		 * @param process the handle of the process.
+		 * @param now     the current time.
+		 */
+		private void requeue(int process, int now) {
+			arrivedQueue.requeue(process, now);
+
+			if (SchedulerStats.ENABLED)
+				SchedulerStats.inserted(arrivedQueue.size());
+		}
+
+		@Override
+		public void dispatch(SimulationKernel kernel) {
+
+			// The CPU is still in use
+			if (busy)
+				return;
+
+			// Age the processes that have waited long enough
+			int timeline = kernel.now();
+			arrivedQueue.age(timeline);
 
 			// Select process with the lowest priority under the given timeline
-			PCB newProcess = selectLowest(readyQueue, remainingQueue, timeline);
+			long selectionStart = timed ? System.nanoTime() : 0;
+			int newProcess = selectLowest(arrivedQueue);
+			if (timed)
+				recordSelection(newProcess, System.nanoTime() - selectionStart);
 
 			// If new process has arrived
-			if (newProcess != null) {
+			if (newProcess != ProcessTable.NO_PROCESS) {
+				int processID = table.getProcessID(newProcess);
+				int priority = table.getPriority(newProcess);
 
 				// Calculate the remaining burst time for this new process
-				int burstTimeRemaining = newProcess.getBurstTime() - newProcess.getCpuTime();
+				int burstTimeRemaining = table.getBurstTime(newProcess)
+					- table.getCpuTime(newProcess);
 
 				// Set the start timeline of this process
 				int start = timeline;
 				int end;
 
-				// If the burst time is less than or equal to quantum time
-				if (burstTimeRemaining <= quantum) {
+				// Whole quanta the process needs to finish
+				int needed = Math.max(1, quantaIn(burstTimeRemaining));
+
+				// Fast-forward: with no other process waiting, nothing can
+				// preempt this process before the next arrival, so it keeps
+				// the CPU for every quantum up to that arrival
+				int slices = 1;
+				if (arrivedQueue.isEmpty()) {
+					int untilArrival = kernel.nextArrivalTime() - timeline;
+					slices = Math.max(1, Math.min(needed, quantaIn(untilArrival)));
+				}
+
+				// If the process finishes within these quanta
+				if (slices == needed) {
 					// Calculate end time for this process
 					end = timeline + burstTimeRemaining;
 
-					// Add cpu time utilization to this process
-					newProcess.addCpuTime(quantum);
+					// The process finishes within its last quantum
+					kernel.schedule(Event.COMPLETION, end, newProcess);
 				}
 
-				// If the burst time is greater than the quantum time
+				// If the process still needs more quanta
 				else {
 					// Calculate end time for this process
-					end = timeline + quantum;
-
-					// Add cpu time utilization to this process
-					newProcess.addCpuTime(quantum);
+					end = timeline + slices * quantum;
 
-					// Add this process to the remaining queue
-					remainingQueue.add(newProcess);
+					// The process is preempted when its last quantum expires
+					kernel.schedule(Event.QUANTUM_EXPIRY, end, newProcess);
 				}
 
-				// Add this process to the gant entry
-				gantChart.add(new GantEntry(newProcess, start, end));
-				timeline = end;
+				// Add cpu time utilization to this process
+				table.addCpuTime(newProcess, slices * quantum);
+
+				// Add this process to the gant chart, one entry per quantum
+				int sliceStart = start;
+				do {
+					int sliceEnd = Math.min(sliceStart + quantum, end);
+					sink.emit(sliceStart, sliceEnd, processID, priority);
+					sliceStart = sliceEnd;
+				} while (sliceStart < end);
 
+				busy = true;
+
+				if (SchedulerStats.ENABLED)
+					SchedulerStats.dispatched();
 			}
-			// If no process has arrived, increment by quantum
-			else {
+			// If no process has arrived, idle in whole quanta until the next
+			// process arrives
+			else if (kernel.hasPendingArrivals()) {
+				int idle = kernel.nextArrivalTime() - timeline;
+
+				kernel.schedule(Event.QUANTUM_EXPIRY,
+					timeline + quantaIn(idle) * quantum, ProcessTable.NO_PROCESS);
+				busy = true;
 
-				// Increment the timeline of the gant chart
-				timeline += quantum;
+				if (SchedulerStats.ENABLED)
+					SchedulerStats.idled();
 			}
 		}
 
-		return gantChart.stream().map(
-			entry -> {
-				String start = String.valueOf(entry.start);
-				String end = String.valueOf(entry.end);
-				String processID = String.valueOf(entry.process.getProcessID());
+		/**
+		 * Adds a selection to the selection event, and records a dispatch
+		 * event for one dispatch in every {@code DispatchEvent.SAMPLE_INTERVAL}.
+		 *
+		 * @param process the handle of the process selected, or
+		 *                {@code ProcessTable.NO_PROCESS}.
+		 * @param latency the time the selection took, in nanoseconds.
+		 */
+		private void recordSelection(int process, long latency) {
+			selection.selections++;
+			selection.selectionTime += latency;
+
+			if (process == ProcessTable.NO_PROCESS || DispatchEvent.SAMPLE_INTERVAL <= 0
+				|| --untilSample > 0)
+				return;
 
-				return start + " " + end + " P" + processID;
+			untilSample = DispatchEvent.SAMPLE_INTERVAL;
+
+			DispatchEvent event = new DispatchEvent();
+			event.processID = table.getProcessID(process);
+			event.queueDepth = arrivedQueue.size();
+			event.selectionLatency = latency;
+			event.commit();
+		}
+
+		/**
+		 * Records the selection event once the simulation is over.
+		 */
+		void finish() {
+			if (selection == null)
+				return;
+
+			selection.end();
+			if (selection.shouldCommit()) {
+				selection.algorithm = getName();
+				selection.commit();
 			}
-		).collect(Collectors.toList());
+		}
+
+		/**
+		 * Calculates how many whole quanta it takes to cover the given time.
+		 *
+		 * @param time the time to cover.
+		 * @return the number of quanta, rounded up.
+		 */
+		private int quantaIn(int time) {
+			return (int) (((long) time + quantum - 1) / quantum);
+		}
 	}
 
 	/**
-	 * Selects the {@code PCB} with the lowest priority from the
-	 * {@code ReadyQueue} under the given limit, namely the {@code timeline}. The
-	 * {@code PCB} with the {@code arrivalTime} less than or equal to the timeline
-	 * is returned.
-	 *
-	 * @param readyQueue the ready queue containing the processes.
-	 * @param timeline   the limit to which check the {@code arriveTime} of each
-	 *                   {@code PCB}
-	 * @return The {@code PCB} with the {@code arrivalTime} less than or equal to
-	 * the timeline is returned.
+	 * The {@code WaitingQueue} holds the handles of the processes that have
+	 * arrived and are waiting for the CPU, ordered by lowest priority first.
+	 * Processes with equal priority are served in the order they entered the
+	 * queue, which is numbered by a sequence shared by its subclasses.
 	 */
-	private PCB selectLowest(ReadyQueue<PCB> readyQueue,
-							 PriorityQueue<PCB> remainingQueue, int timeline) {
-
-		PriorityQueue<PCB> tempQueue;
-		// Comparator for sorting low priorities first
-		Comparator<PCB> byLowestPriority =
-			(p1, p2) -> new Integer(p1.getPriority()).compareTo(p2.getPriority());
+	abstract class WaitingQueue {
+		/* Table storing the processes */
+		ProcessTable table;
 
-		// Create remaining queue with low priority processes ordered first
-		tempQueue = new PriorityQueue<>(byLowestPriority);
+		/* Order in which the next process enters this queue */
+		int sequence;
 
-		// Retrieve processes that arrived before timeline from the ready queue
-		while (!readyQueue.isEmpty() && readyQueue.peek().getArriveTime() <= timeline) {
-			PCB process = readyQueue.poll();
-			tempQueue.add(process);
+		/**
+		 * Create a new {@code WaitingQueue}.
+		 *
+		 * @param table the table storing the processes.
+		 */
+		WaitingQueue(ProcessTable table) {
+			this.table = table;
+			this.sequence = Integer.MIN_VALUE;
 		}
 
-		// Retrieve processes that arrived before timeline form remaining queue
-		while (!remainingQueue.isEmpty() &&
-			remainingQueue.peek().getArriveTime() <= timeline) {
+		/**
+		 * Adds a process to the back of its priority level.
+		 *
+		 * @param process the handle of the process waiting for the CPU.
+		 * @param now     the current time.
+		 */
+		abstract void requeue(int process, int now);
+
+		/**
+		 * Retrieves and removes the process with the lowest priority.
+		 * @return the handle of the process, or {@code ProcessTable.NO_PROCESS}.
+		 */
+		abstract int poll();
 
-			PCB process = remainingQueue.poll();
-			tempQueue.add(process);
+		/**
+		 * Checks if no process is waiting.
+		 * @return true if no process is waiting.
+		 */
+		abstract boolean isEmpty();
+
+		/**
+		 * Retrieves the number of processes waiting.
+		 * @return the number of processes waiting.
+		 */
+		abstract int size();
+
+		/**
+		 * Ages the processes that have waited long enough. By default
+		 * processes do not age.
+		 *
+		 * @param now the current time.
+		 */
+		void age(int now) {
 		}
 
-		// Retrieve the processes that has the lowest priority
-		PCB process = tempQueue.poll();
+		/**
+		 * Renumbers the waiting processes from the first sequence number,
+		 * keeping their order.
+		 */
+		abstract void renumber();
+
+		/**
+		 * Retrieves the order in which the next process enters this queue,
+		 * renumbering the waiting processes once the sequence numbers run out.
+		 *
+		 * @return the sequence number of the next process.
+		 */
+		int nextSequence() {
+			if (sequence == Integer.MAX_VALUE)
+				renumber();
 
-		// Reinsert the processes took from ready queue to remaining queue
-		while (!tempQueue.isEmpty()) {
-			remainingQueue.add(tempQueue.poll());
+			return sequence++;
 		}
 
-		return process;
+		/**
+		 * Renumbers the processes waiting in the given heaps from the first
+		 * sequence number, keeping the order in which they entered this queue
+		 * across all of the heaps. The keys keep their primary order.
+		 *
+		 * @param heaps the heaps holding the waiting processes.
+		 */
+		void renumber(HandleHeap... heaps) {
+			int count = 0;
+			for (HandleHeap heap : heaps)
+				count += heap.size();
+
+			int[] handles = new int[count];
+			long[] keys = new long[count];
+			int[] origins = new int[count];
+
+			// Drain every heap, remembering the heap of each process
+			int drained = 0;
+			for (int i = 0; i < heaps.length; i++) {
+				int[] heapHandles = new int[heaps[i].size()];
+				long[] heapKeys = new long[heaps[i].size()];
+				int heapCount = heaps[i].drain(heapHandles, heapKeys);
+
+				System.arraycopy(heapHandles, 0, handles, drained, heapCount);
+				System.arraycopy(heapKeys, 0, keys, drained, heapCount);
+				Arrays.fill(origins, drained, drained + heapCount, i);
+				drained += heapCount;
+			}
+
+			// Sort the processes by their old sequence number
+			long[] order = new long[count];
+			for (int i = 0; i < count; i++)
+				order[i] = ((long) HandleKey.tieBreak(keys[i]) << 32) | i;
+			Arrays.sort(order);
+
+			sequence = Integer.MIN_VALUE;
+			for (long entry : order) {
+				int i = (int) entry;
+				heaps[origins[i]].add(handles[i],
+					HandleKey.pack(HandleKey.primary(keys[i]), sequence++));
+			}
+		}
 	}
 
 	/**
-	 * Checks if the process has finished execution
-	 *
-	 * @param process the procces
-	 * @return true if it has finish execution
+	 * The {@code ArrivedQueue} is a {@code WaitingQueue} whose processes keep
+	 * their priority while they wait.
+	 * <p>
+	 * When the priorities of the table fall in a bounded range, the processes
+	 * wait in {@code PriorityBuckets}, one bucket per priority, which selects
+	 * and requeues in O(1). Otherwise, or once a process with a priority out
+	 * of that range shows up, priority and order of entry are packed into the
+	 * key of a {@code HandleHeap}. Neither allocates an object per process or
+	 * per comparison.
 	 */
-	private boolean isFinished(PCB process) {
-		return process.getBurstTime() == process.getCpuTime();
+	class ArrivedQueue extends WaitingQueue {
+		/* The waiting processes while their priorities are bounded, or null */
+		private PriorityBuckets buckets;
+
+		/* The waiting processes */
+		private HandleHeap heap;
+
+		/**
+		 * Create a new {@code ArrivedQueue}.
+		 *
+		 * @param table  the table storing the processes.
+		 * @param bucket true to use buckets if the priorities are bounded.
+		 */
+		ArrivedQueue(ProcessTable table, boolean bucket) {
+			super(table);
+			this.heap = new HandleHeap();
+
+			// Bucket the priorities if their range is bounded
+			if (bucket && PriorityBuckets.fits(table.getMinPriority(), table.getMaxPriority()))
+				this.buckets = new PriorityBuckets(table,
+					table.getMinPriority(), table.getMaxPriority());
+		}
+
+		@Override
+		void requeue(int process, int now) {
+			if (buckets != null) {
+				if (buckets.accepts(table.getPriority(process))) {
+					buckets.add(process);
+					return;
+				}
+
+				// Fall back to the heap for a priority out of the range
+				unbucket();
+			}
+
+			heap.add(process, HandleKey.pack(table.getPriority(process), nextSequence()));
+		}
+
+		@Override
+		int poll() {
+			if (buckets != null)
+				return buckets.poll();
+
+			return heap.isEmpty() ? ProcessTable.NO_PROCESS : heap.poll();
+		}
+
+		@Override
+		boolean isEmpty() {
+			return buckets != null ? buckets.isEmpty() : heap.isEmpty();
+		}
+
+		@Override
+		int size() {
+			return buckets != null ? buckets.size() : heap.size();
+		}
+
+		@Override
+		void renumber() {
+			renumber(heap);
+		}
+
+		/**
+		 * Moves the waiting processes from the buckets to the heap. They leave
+		 * the buckets in order, so their order of entry is kept.
+		 */
+		private void unbucket() {
+			while (!buckets.isEmpty()) {
+				int process = buckets.poll();
+				heap.add(process, HandleKey.pack(table.getPriority(process), nextSequence()));
+			}
+
+			buckets = null;
+		}
 	}
 
 	/**
-	 * Represents a {@code GantEntry} in a {@code List}. A {@code GantEntry}
-	 * contains a {@code process}, {@code start}, and {@code end}. The
-	 * {@code process} represents a {@code PCB}. The {@code start} and {@code end}
-	 * represents the start time and end time of the {@code GantEntry},
-	 * respectively.
+	 * The {@code AgingQueue} is a {@code WaitingQueue} whose processes age
+	 * while they wait. Every time the clock passes a multiple of the aging
+	 * interval, an epoch, every waiting process is lowered by the aging step,
+	 * so a process that entered in epoch {@code e} with priority {@code p}
+	 * has the aged priority {@code p - step * (now epoch - e)}. Since every
+	 * waiting process ages by the same amount, they are keyed by the time
+	 * invariant {@code p + step * e} instead, and aging itself touches no
+	 * process.
+	 * <p>
+	 * Only the floor breaks that invariant: once its aged priority reaches
+	 * the lowest priority of the job pool, a process stops aging and is
+	 * served among the other processes at the floor in order of entry. Those
+	 * are always the processes with the lowest keys, so they are moved to a
+	 * second heap keyed by order of entry alone, once per wait. Aging then
+	 * costs O(log n) per wait, as dispatching does.
 	 */
-	class GantEntry {
-		/* A process */
-		PCB process;
+	class AgingQueue extends WaitingQueue {
+		/* Time between two epochs */
+		private int interval;
+
+		/* Amount the priority of a process is lowered each epoch */
+		private int step;
+
+		/* Lowest priority of the job pool */
+		private int minPriority;
 
-		/* The start of this entry */
+		/* Epoch the keys of the waiting processes are relative to */
+		private int base;
 
-		int start;
+		/* The waiting processes above the floor, keyed by time invariant
+		   priority and order of entry */
+		private HandleHeap waiting;
 
-		/* The end of this entry */
-		int end;
+		/* The waiting processes at the floor, keyed by order of entry */
+		private HandleHeap floor;
 
 		/**
-		 * Creates a new {@code GantEntry} with the following attributes:
-		 * {@code process}, {@code start}, and {@code end}.
+		 * Create a new {@code AgingQueue}.
 		 *
-		 * @param process the {@code PCB}.
-		 * @param start   the start time.
-		 * @param end     the end time.
+		 * @param table    the table storing the processes.
+		 * @param interval the time between two epochs.
+		 * @param step     the amount the priority is lowered each epoch.
 		 */
-		GantEntry(PCB process, int start, int end) {
-			this.process = process;
-			this.start = start;
-			this.end = end;
+		AgingQueue(ProcessTable table, int interval, int step) {
+			super(table);
+			this.interval = interval;
+			this.step = step;
+			this.minPriority = table.getMinPriority();
+			this.waiting = new HandleHeap();
+			this.floor = new HandleHeap();
 		}
 
 		/**
-		 * The string representation of a {@code GantEntry}. The representation is
-		 * as follows:
-		 * {start, end, P#}
+		 * Adds a process to the back of its own priority level.
 		 *
-		 * @return a string representation of the {@code GantEntry}.
+		 * @param process the handle of the process waiting for the CPU.
+		 * @param now     the current time.
 		 */
-		public String toString() {
-			return "{" + start + " " + end + " P" + process.getProcessID() + "}";
+		@Override
+		void requeue(int process, int now) {
+			int epoch = Math.floorDiv(now, interval);
+
+			// Keys are relative to any epoch, so start afresh when empty
+			if (waiting.isEmpty())
+				base = epoch;
+
+			long key = table.getPriority(process) + step * ((long) epoch - base);
+			if (key > Integer.MAX_VALUE) {
+				rebase(epoch);
+				key = table.getPriority(process);
+			}
+
+			waiting.add(process, HandleKey.pack((int) key, nextSequence()));
+		}
+
+		@Override
+		int poll() {
+			// Any process at the floor comes before every process above it
+			if (!floor.isEmpty())
+				return floor.poll();
+
+			return waiting.isEmpty() ? ProcessTable.NO_PROCESS : waiting.poll();
+		}
+
+		@Override
+		boolean isEmpty() {
+			return waiting.isEmpty() && floor.isEmpty();
+		}
+
+		@Override
+		int size() {
+			return waiting.size() + floor.size();
+		}
+
+		/**
+		 * Moves the processes whose aged priority reached the lowest priority
+		 * of the job pool to the floor.
+		 *
+		 * @param now the current time.
+		 */
+		@Override
+		void age(int now) {
+			lower(Math.floorDiv(now, interval));
+		}
+
+		@Override
+		void renumber() {
+			renumber(floor, waiting);
+		}
+
+		/**
+		 * Moves the processes whose aged priority reached the lowest priority
+		 * of the job pool by the given epoch to the floor, in order of key.
+		 *
+		 * @param epoch the current epoch.
+		 */
+		private void lower(int epoch) {
+			long threshold = minPriority + step * ((long) epoch - base);
+
+			while (!waiting.isEmpty() && HandleKey.primary(waiting.peekKey()) <= threshold) {
+				long key = waiting.peekKey();
+				int process = waiting.poll();
+
+				floor.add(process, HandleKey.pack(Math.min(table.getPriority(process),
+					minPriority), HandleKey.tieBreak(key)));
+			}
+		}
+
+		/**
+		 * Makes the keys of the waiting processes relative to the given epoch,
+		 * once the keys of new processes no longer fit an {@code int}. The
+		 * processes at the floor by then are moved there first, so the others
+		 * keep a key above the lowest priority.
+		 *
+		 * @param epoch the current epoch.
+		 */
+		private void rebase(int epoch) {
+			lower(epoch);
+
+			int[] handles = new int[waiting.size()];
+			long[] keys = new long[waiting.size()];
+			int count = waiting.drain(handles, keys);
+
+			long shift = step * ((long) epoch - base);
+			for (int i = 0; i < count; i++)
+				waiting.add(handles[i], HandleKey.pack((int) (HandleKey.primary(keys[i]) - shift),
+					HandleKey.tieBreak(keys[i])));
+
+			base = epoch;
 		}
 	}
-}
\ No newline at end of file
+}
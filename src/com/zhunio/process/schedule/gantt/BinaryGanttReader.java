@@ -0,0 +1,222 @@
+package com.zhunio.process.schedule.gantt;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Reads a Gantt chart written by {@code BinaryGanttSink}. The entries are
+ * decoded one at a time from a fixed size buffer, so charts of any size can
+ * be read, or replayed into another {@code GanttSink}.
+ */
+public class BinaryGanttReader implements Closeable {
+	/* Size of the input buffer */
+	private static final int BUFFER_SIZE = 64 << 10;
+
+	/* Channel of the input file */
+	private FileChannel channel;
+
+	/* Buffer holding the bytes read and not decoded yet */
+	private ByteBuffer buffer;
+
+	/* Whether the end of the file has been read into the buffer */
+	private boolean endOfFile;
+
+	/* Name of the schedule algorithm */
+	private String algorithm;
+
+	/* Quantum time */
+	private int quantumTime;
+
+	/* Start of the current entry */
+	private int start;
+
+	/* End of the current entry */
+	private int end;
+
+	/* Process of the current entry */
+	private int processID;
+
+	/**
+	 * Opens a binary Gantt chart and reads its header.
+	 *
+	 * @param file the binary Gantt chart.
+	 * @throws Exception if the file cannot be read or is not a binary Gantt
+	 *                   chart.
+	 */
+	public BinaryGanttReader(Path file) throws Exception {
+		this.channel = FileChannel.open(file, StandardOpenOption.READ);
+		this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		this.buffer.flip();
+
+		try {
+			readHeader();
+		} catch (Exception e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Retrieves the name of the schedule algorithm.
+	 * @return the name of the schedule algorithm.
+	 */
+	public String getAlgorithm() {
+		return algorithm;
+	}
+
+	/**
+	 * Retrieves the quantum time.
+	 * @return the quantum time.
+	 */
+	public int getQuantumTime() {
+		return quantumTime;
+	}
+
+	/**
+	 * Decodes the next entry.
+	 *
+	 * @return true if an entry was decoded, false at the end of the chart.
+	 * @throws Exception if the file cannot be read or the entry is truncated.
+	 */
+	public boolean next() throws Exception {
+		if (!fill(BinaryGanttSink.MAX_ENTRY) && !buffer.hasRemaining())
+			return false;
+
+		start = end + unzigzag(getVarint());
+		end = start + getVarint();
+		processID = unzigzag(getVarint());
+
+		return true;
+	}
+
+	/**
+	 * Retrieves the start of the entry decoded last.
+	 * @return the time the process got the CPU.
+	 */
+	public int getStart() {
+		return start;
+	}
+
+	/**
+	 * Retrieves the end of the entry decoded last.
+	 * @return the time the process released the CPU.
+	 */
+	public int getEnd() {
+		return end;
+	}
+
+	/**
+	 * Retrieves the process of the entry decoded last.
+	 * @return the ID of the process.
+	 */
+	public int getProcessID() {
+		return processID;
+	}
+
+	/**
+	 * Emits every remaining entry into the given sink. The sink is not
+	 * closed.
+	 *
+	 * @param sink the sink receiving the entries.
+	 * @throws Exception if the file cannot be read or an entry is truncated.
+	 */
+	public void replay(GanttSink sink) throws Exception {
+		while (next())
+			sink.emit(start, end, processID);
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Reads and checks the header.
+	 *
+	 * @throws Exception if the header is invalid.
+	 */
+	private void readHeader() throws Exception {
+		fill(BinaryGanttSink.MAGIC.length + 1);
+
+		for (byte magic : BinaryGanttSink.MAGIC)
+			if (!buffer.hasRemaining() || buffer.get() != magic)
+				throw new Exception("Not a binary Gantt chart");
+
+		if (!buffer.hasRemaining())
+			throw new Exception("Truncated binary Gantt chart header");
+
+		int length = buffer.get() & 0xFF;
+		fill(length + Integer.BYTES);
+		if (buffer.remaining() < length + Integer.BYTES)
+			throw new Exception("Truncated binary Gantt chart header");
+
+		byte[] name = new byte[length];
+		buffer.get(name);
+
+		algorithm = new String(name, StandardCharsets.US_ASCII);
+		quantumTime = buffer.getInt();
+	}
+
+	/**
+	 * Decodes an unsigned varint.
+	 *
+	 * @return the unsigned integer.
+	 * @throws Exception if the varint is truncated or too long.
+	 */
+	private int getVarint() throws Exception {
+		int value = 0;
+
+		for (int shift = 0; shift < 35; shift += 7) {
+			if (!buffer.hasRemaining())
+				throw new Exception("Truncated binary Gantt chart entry at byte "
+					+ (channel.position() - buffer.remaining()));
+
+			byte b = buffer.get();
+			value |= (b & 0x7F) << shift;
+
+			if (b >= 0)
+				return value;
+		}
+
+		throw new Exception("Invalid varint in binary Gantt chart");
+	}
+
+	/**
+	 * Maps a zigzag encoded integer back to a signed one.
+	 *
+	 * @param value the zigzag encoding.
+	 * @return the signed integer.
+	 */
+	private static int unzigzag(int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * Reads from the file until the buffer holds at least the given number of
+	 * bytes or the end of the file is reached.
+	 *
+	 * @param bytes the number of bytes wanted.
+	 * @return true if the buffer holds that many bytes.
+	 * @throws IOException if the file cannot be read.
+	 */
+	private boolean fill(int bytes) throws IOException {
+		if (buffer.remaining() >= bytes)
+			return true;
+
+		buffer.compact();
+		while (!endOfFile && buffer.position() < bytes)
+			if (channel.read(buffer) < 0)
+				endOfFile = true;
+		buffer.flip();
+
+		return buffer.remaining() >= bytes;
+	}
+}
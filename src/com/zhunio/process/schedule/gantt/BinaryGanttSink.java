@@ -0,0 +1,145 @@
+package com.zhunio.process.schedule.gantt;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Writes the Gantt chart in a compact binary format:
+ *
+ * 'G' 'N' 'T' '1'	(magic bytes)
+ * n			(length of the algorithm name, one byte)
+ * ...			(algorithm name, n ASCII bytes)
+ * q			(quantum time, little-endian int)
+ * d l p		(entry), until the end of the file
+ *
+ * Each entry holds the start time as its distance from the end of the
+ * previous entry {@code d}, the duration {@code l} and the process ID
+ * {@code p}. {@code d} and {@code p} are zigzag varints and {@code l} is an
+ * unsigned varint, so most entries take three or four bytes. Use
+ * {@code BinaryGanttReader} to read the chart back.
+ */
+public class BinaryGanttSink implements GanttSink {
+	/* Magic bytes at the start of a binary Gantt chart */
+	static final byte[] MAGIC = {'G', 'N', 'T', '1'};
+
+	/* Longest entry: three varints of up to 5 bytes */
+	static final int MAX_ENTRY = 15;
+
+	/* Size of the output buffer */
+	private static final int BUFFER_SIZE = 64 << 10;
+
+	/* Channel of the output file */
+	private FileChannel channel;
+
+	/* Buffer holding the entries not written yet */
+	private ByteBuffer buffer;
+
+	/* End of the previous entry */
+	private int previousEnd;
+
+	/**
+	 * Creates a new {@code BinaryGanttSink} and writes the header, replacing
+	 * the file if it exists.
+	 *
+	 * @param file        the output file.
+	 * @param algorithm   the name of the schedule algorithm.
+	 * @param quantumTime the quantum time.
+	 * @throws IOException if the file cannot be written.
+	 */
+	public BinaryGanttSink(File file, String algorithm, int quantumTime) throws IOException {
+		byte[] name = algorithm.getBytes(StandardCharsets.US_ASCII);
+		if (name.length > 255)
+			throw new IllegalArgumentException("Algorithm name too long: " + algorithm);
+
+		this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+			StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+
+		buffer.put(MAGIC);
+		buffer.put((byte) name.length);
+		buffer.put(name);
+		buffer.putInt(quantumTime);
+	}
+
+	@Override
+	public void emit(int start, int end, int processID) {
+		if (end < start)
+			throw new IllegalArgumentException("Entry of P" + processID
+				+ " ends at " + end + " before it starts at " + start);
+
+		if (buffer.remaining() < MAX_ENTRY)
+			flush();
+
+		putVarint(zigzag(start - previousEnd));
+		putVarint(end - start);
+		putVarint(zigzag(processID));
+
+		previousEnd = end;
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			drain();
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Maps a signed integer to an unsigned one with small absolute values
+	 * mapping to small numbers.
+	 *
+	 * @param value the signed integer.
+	 * @return the zigzag encoding of the integer.
+	 */
+	static int zigzag(int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+
+	/**
+	 * Encodes an unsigned integer as a varint, 7 bits per byte with the high
+	 * bit set on every byte but the last.
+	 *
+	 * @param value the unsigned integer.
+	 */
+	private void putVarint(int value) {
+		while ((value & ~0x7F) != 0) {
+			buffer.put((byte) ((value & 0x7F) | 0x80));
+			value >>>= 7;
+		}
+
+		buffer.put((byte) value);
+	}
+
+	/**
+	 * Writes the buffer to the file from inside the simulation.
+	 */
+	private void flush() {
+		try {
+			drain();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Writes the buffer to the file and empties it.
+	 *
+	 * @throws IOException if the buffer cannot be written.
+	 */
+	private void drain() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+		buffer.clear();
+	}
+}
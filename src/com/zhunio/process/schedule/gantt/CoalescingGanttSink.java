@@ -0,0 +1,97 @@
+package com.zhunio.process.schedule.gantt;
+
+import java.io.IOException;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Merges adjacent entries of the same process into a single entry before
+ * passing them on to another {@code GanttSink}. An entry is adjacent when
+ * it starts where the previous entry of the chart ended and belongs to the
+ * same process, as with consecutive quanta of a process nobody preempts.
+ * Only the entry being merged is held, so the chart is never buffered.
+ */
+public class CoalescingGanttSink implements GanttSink {
+	/* Sink receiving the merged entries */
+	private GanttSink sink;
+
+	/* Whether an entry is being merged */
+	private boolean pending;
+
+	/* Start of the entry being merged */
+	private int start;
+
+	/* End of the entry being merged */
+	private int end;
+
+	/* Process of the entry being merged */
+	private int processID;
+
+	/* Priority of the process of the entry being merged */
+	private int priority;
+
+	/**
+	 * Creates a new {@code CoalescingGanttSink}.
+	 *
+	 * @param sink the sink receiving the merged entries.
+	 */
+	public CoalescingGanttSink(GanttSink sink) {
+		this.sink = sink;
+	}
+
+	@Override
+	public void emit(int start, int end, int processID) {
+		emit(start, end, processID, 0);
+	}
+
+	@Override
+	public void emit(int start, int end, int processID, int priority) {
+
+		// Extend the entry being merged
+		if (pending && start == this.end && processID == this.processID) {
+			this.end = end;
+			return;
+		}
+
+		if (pending)
+			sink.emit(this.start, this.end, this.processID, this.priority);
+
+		this.pending = true;
+		this.start = start;
+		this.end = end;
+		this.processID = processID;
+		this.priority = priority;
+	}
+
+	/**
+	 * Passes on the entry being merged if it belongs to the completed
+	 * process, which cannot be extended anymore, so the completion still
+	 * follows the last entry of the process.
+	 */
+	@Override
+	public void complete(int processID, int arriveTime, int burstTime, int time) {
+		if (pending && processID == this.processID) {
+			pending = false;
+			sink.emit(start, end, this.processID, priority);
+		}
+
+		sink.complete(processID, arriveTime, burstTime, time);
+	}
+
+	/**
+	 * Passes on the entry being merged and closes the underlying sink.
+	 *
+	 * @throws IOException if the underlying sink cannot be closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			if (pending) {
+				pending = false;
+				sink.emit(start, end, processID, priority);
+			}
+		} finally {
+			sink.close();
+		}
+	}
+}
@@ -0,0 +1,120 @@
+package com.zhunio.process.schedule.gantt;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Writes the Gantt chart to a text file, one "start end P#" line per entry.
+ * The integers are encoded as ASCII digits straight into a reusable
+ * {@code ByteBuffer}, which is written through a {@code FileChannel} each
+ * time it fills up, so no string or other object is created per entry.
+ */
+public class FileGanttSink implements GanttSink {
+	/* Size of the output buffer */
+	private static final int BUFFER_SIZE = 64 << 10;
+
+	/* Longest line: three integers of up to 11 characters and separators */
+	private static final int MAX_LINE = 48;
+
+	/* Line separator, as written by a PrintWriter */
+	private static final byte[] LINE_SEPARATOR =
+		System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+
+	/* Channel of the output file */
+	private FileChannel channel;
+
+	/* Buffer holding the lines not written yet */
+	private ByteBuffer buffer;
+
+	/**
+	 * Creates a new {@code FileGanttSink}, replacing the file if it exists.
+	 *
+	 * @param file the output file.
+	 * @throws IOException if the file cannot be opened.
+	 */
+	public FileGanttSink(File file) throws IOException {
+		this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+			StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+		this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+	}
+
+	@Override
+	public void emit(int start, int end, int processID) {
+		if (buffer.remaining() < MAX_LINE)
+			flush();
+
+		putInt(start);
+		buffer.put((byte) ' ');
+		putInt(end);
+		buffer.put((byte) ' ');
+		buffer.put((byte) 'P');
+		putInt(processID);
+		buffer.put(LINE_SEPARATOR);
+	}
+
+	@Override
+	public void close() throws IOException {
+		try {
+			drain();
+		} finally {
+			channel.close();
+		}
+	}
+
+	/**
+	 * Encodes an integer as ASCII digits at the position of the buffer.
+	 *
+	 * @param value the integer.
+	 */
+	private void putInt(int value) {
+		long magnitude = value;
+
+		if (magnitude < 0) {
+			buffer.put((byte) '-');
+			magnitude = -magnitude;
+		}
+
+		// Count the digits, then fill them in from the last one
+		int digits = 1;
+		for (long power = 10; power <= magnitude; power *= 10)
+			digits++;
+
+		int position = buffer.position();
+		for (int i = position + digits - 1; i >= position; i--) {
+			buffer.put(i, (byte) ('0' + magnitude % 10));
+			magnitude /= 10;
+		}
+
+		buffer.position(position + digits);
+	}
+
+	/**
+	 * Writes the buffer to the file from inside the simulation.
+	 */
+	private void flush() {
+		try {
+			drain();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	/**
+	 * Writes the buffer to the file and empties it.
+	 *
+	 * @throws IOException if the buffer cannot be written.
+	 */
+	private void drain() throws IOException {
+		buffer.flip();
+		while (buffer.hasRemaining())
+			channel.write(buffer);
+		buffer.clear();
+	}
+}
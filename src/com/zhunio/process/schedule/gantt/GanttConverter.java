@@ -0,0 +1,61 @@
+package com.zhunio.process.schedule.gantt;
+
+import java.io.File;
+import java.nio.file.Paths;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Converts a Gantt chart from the binary format of {@code BinaryGanttSink}
+ * back into the text format written by {@code Scheduler}, one
+ * "start end P#" line per entry. The entries are streamed from one file to
+ * the other, so the chart never needs to fit in memory.
+ *
+ * java -cp scheduler.jar com.zhunio.process.schedule.gantt.GanttConverter output.gantt output.data
+ */
+public class GanttConverter {
+
+	/**
+	 * Converts the binary Gantt chart given as first argument into the text
+	 * Gantt chart given as second argument.
+	 *
+	 * @param args the binary Gantt chart and the text Gantt chart.
+	 * @throws Exception If an error occurs
+	 */
+	public static void main(String[] args) throws Exception {
+
+		// Check for invalid number of cmd arguments
+		if (args.length != 2) {
+			System.err.println("Usage: GanttConverter <binary gantt chart> <text gantt chart>");
+			System.exit(1);
+		}
+
+		try {
+			convert(args[0], args[1]);
+		} catch (Exception e) {
+			System.err.println(e.getMessage());
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Converts a binary Gantt chart into a text Gantt chart. The text Gantt
+	 * chart is removed if the binary one turns out to be invalid.
+	 *
+	 * @param binaryChart path to the binary Gantt chart.
+	 * @param textChart   path to the text Gantt chart to write.
+	 * @throws Exception if the binary Gantt chart is invalid or a file cannot
+	 *                   be read or written.
+	 */
+	public static void convert(String binaryChart, String textChart) throws Exception {
+		try (BinaryGanttReader reader = new BinaryGanttReader(Paths.get(binaryChart))) {
+
+			try (GanttSink sink = new FileGanttSink(new File(textChart))) {
+				reader.replay(sink);
+			} catch (Exception e) {
+				new File(textChart).delete();
+				throw e;
+			}
+		}
+	}
+}
@@ -0,0 +1,237 @@
+package com.zhunio.process.schedule.gantt;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Answers queries on a Gantt chart from the index written by
+ * {@code IndexingGanttSink}, without reading the chart itself. The index is
+ * mapped into memory, so only the pages a query touches are read:
+ * finding the entry running at a given time takes O(log n) over the start
+ * column, and the k entries of a process take O(log m + k), the log m to
+ * find the process among the m processes of the chart.
+ *
+ * Entries are numbered from 0 in order of start.
+ */
+public class GanttIndex implements Closeable {
+	/* Channel of the index file */
+	private FileChannel channel;
+
+	/* The index file mapped into memory */
+	private MappedFile file;
+
+	/* Number of entries */
+	private long entries;
+
+	/* Number of processes */
+	private int processes;
+
+	/* Position of the start column */
+	private long starts;
+
+	/* Position of the end column */
+	private long ends;
+
+	/* Position of the process ID column */
+	private long processIDs;
+
+	/* Position of the sorted process IDs */
+	private long sortedProcessIDs;
+
+	/* Position of the offsets of the entries of every process */
+	private long offsets;
+
+	/* Position of the entries grouped by process */
+	private long grouped;
+
+	/**
+	 * Opens an index and checks its header.
+	 *
+	 * @param index the index file.
+	 * @throws Exception if the file cannot be read or is not a complete
+	 *                   index.
+	 */
+	public GanttIndex(Path index) throws Exception {
+		this.channel = FileChannel.open(index, StandardOpenOption.READ);
+
+		try {
+			ByteBuffer header = ByteBuffer.allocate(IndexingGanttSink.HEADER)
+				.order(ByteOrder.LITTLE_ENDIAN);
+			while (header.hasRemaining() && channel.read(header) >= 0) {
+				// Read until the header is complete or the file ends
+			}
+			header.flip();
+
+			if (header.remaining() < IndexingGanttSink.HEADER)
+				throw new Exception("Not a Gantt chart index");
+			for (byte magic : IndexingGanttSink.MAGIC)
+				if (header.get() != magic)
+					throw new Exception("Not a Gantt chart index");
+
+			long size = channel.size();
+			header.getInt();
+			this.entries = header.getLong();
+			long processes = header.getLong();
+			if (entries < 0 || entries > size || processes < 0 || processes > Integer.MAX_VALUE)
+				throw new Exception("Invalid Gantt chart index header");
+			this.processes = (int) processes;
+
+			// The columns follow each other as laid out by the sink
+			this.starts = IndexingGanttSink.HEADER;
+			this.ends = starts + Integer.BYTES * entries;
+			this.processIDs = ends + Integer.BYTES * entries;
+			this.sortedProcessIDs = processIDs + Integer.BYTES * entries;
+			this.offsets = sortedProcessIDs + Integer.BYTES * (processes + (entries + processes) % 2);
+			this.grouped = offsets + Long.BYTES * (processes + 1);
+
+			if (size != grouped + Long.BYTES * entries)
+				throw new Exception("Truncated Gantt chart index");
+
+			this.file = new MappedFile(channel, FileChannel.MapMode.READ_ONLY, 0, size);
+		} catch (Exception e) {
+			channel.close();
+			throw e;
+		}
+	}
+
+	/**
+	 * Retrieves the number of entries of the chart.
+	 * @return the number of entries.
+	 */
+	public long size() {
+		return entries;
+	}
+
+	/**
+	 * Retrieves the number of processes of the chart.
+	 * @return the number of processes.
+	 */
+	public int getProcessCount() {
+		return processes;
+	}
+
+	/**
+	 * Retrieves the start of an entry.
+	 *
+	 * @param entry the number of the entry.
+	 * @return the time the process got the CPU.
+	 */
+	public int getStart(long entry) {
+		return file.getInt(starts + Integer.BYTES * check(entry));
+	}
+
+	/**
+	 * Retrieves the end of an entry.
+	 *
+	 * @param entry the number of the entry.
+	 * @return the time the process released the CPU.
+	 */
+	public int getEnd(long entry) {
+		return file.getInt(ends + Integer.BYTES * check(entry));
+	}
+
+	/**
+	 * Retrieves the process of an entry.
+	 *
+	 * @param entry the number of the entry.
+	 * @return the ID of the process.
+	 */
+	public int getProcessID(long entry) {
+		return file.getInt(processIDs + Integer.BYTES * check(entry));
+	}
+
+	/**
+	 * Finds the entry using the CPU at the given time, that is the entry
+	 * with start &lt;= time &lt; end.
+	 *
+	 * @param time the time.
+	 * @return the number of the entry, or -1 if the CPU was idle.
+	 */
+	public long find(int time) {
+		// Last entry starting at or before the time
+		long low = 0;
+		long high = entries;
+		while (low < high) {
+			long middle = (low + high) >>> 1;
+
+			if (file.getInt(starts + Integer.BYTES * middle) <= time)
+				low = middle + 1;
+			else
+				high = middle;
+		}
+
+		if (low == 0 || getEnd(low - 1) <= time)
+			return -1;
+
+		return low - 1;
+	}
+
+	/**
+	 * Retrieves the entries of the given process in order of start.
+	 *
+	 * @param processID the ID of the process.
+	 * @return the numbers of the entries, empty if the process never used the
+	 *         CPU.
+	 */
+	public long[] getEntries(int processID) {
+		// Find the process among the sorted process IDs
+		int low = 0;
+		int high = processes - 1;
+		while (low <= high) {
+			int middle = (low + high) >>> 1;
+			int found = file.getInt(sortedProcessIDs + (long) Integer.BYTES * middle);
+
+			if (found < processID)
+				low = middle + 1;
+			else if (found > processID)
+				high = middle - 1;
+			else
+				return getEntriesAt(middle);
+		}
+
+		return new long[0];
+	}
+
+	@Override
+	public void close() throws IOException {
+		channel.close();
+	}
+
+	/**
+	 * Retrieves the entries of the process at the given rank among the sorted
+	 * process IDs.
+	 *
+	 * @param rank the rank of the process.
+	 * @return the numbers of the entries.
+	 */
+	private long[] getEntriesAt(int rank) {
+		long first = file.getLong(offsets + (long) Long.BYTES * rank);
+		long last = file.getLong(offsets + (long) Long.BYTES * (rank + 1));
+
+		long[] found = new long[(int) (last - first)];
+		for (int i = 0; i < found.length; i++)
+			found[i] = file.getLong(grouped + Long.BYTES * (first + i));
+
+		return found;
+	}
+
+	/**
+	 * Checks that an entry exists.
+	 *
+	 * @param entry the number of the entry.
+	 * @return the number of the entry.
+	 */
+	private long check(long entry) {
+		if (entry < 0 || entry >= entries)
+			throw new IndexOutOfBoundsException("Entry " + entry + " of " + entries);
+
+		return entry;
+	}
+}
@@ -0,0 +1,70 @@
+package com.zhunio.process.schedule.gantt;
+
+import java.nio.file.Paths;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Queries a Gantt chart through the index written by {@code Scheduler}
+ * with --index, printing the matching entries as "start end P#" lines like
+ * the text Gantt chart. The query is either a time, to print the entry
+ * using the CPU at that time, or a process such as P7, to print all the
+ * entries of that process.
+ *
+ * java -cp scheduler.jar com.zhunio.process.schedule.gantt.GanttQuery output.index 1500
+ * java -cp scheduler.jar com.zhunio.process.schedule.gantt.GanttQuery output.index P7
+ */
+public class GanttQuery {
+
+	/**
+	 * Runs the query given as second argument on the index given as first
+	 * argument.
+	 *
+	 * @param args the index and the query.
+	 * @throws Exception If an error occurs
+	 */
+	public static void main(String[] args) throws Exception {
+
+		// Check for invalid number of cmd arguments
+		if (args.length != 2) {
+			System.err.println("Usage: GanttQuery <index> <time | P#>");
+			System.exit(1);
+		}
+
+		try (GanttIndex index = new GanttIndex(Paths.get(args[0]))) {
+			StringBuilder builder = new StringBuilder();
+
+			if (args[1].startsWith("P")) {
+				for (long entry : index.getEntries(Integer.parseInt(args[1].substring(1))))
+					append(builder, index, entry);
+			} else {
+				long entry = index.find(Integer.parseInt(args[1]));
+				if (entry < 0)
+					builder.append("idle").append(System.lineSeparator());
+				else
+					append(builder, index, entry);
+			}
+
+			System.out.print(builder);
+		} catch (NumberFormatException e) {
+			System.err.println("Invalid query: " + args[1]);
+			System.exit(1);
+		} catch (Exception e) {
+			System.err.println(e.getMessage());
+			System.exit(1);
+		}
+	}
+
+	/**
+	 * Appends an entry as a line of the text Gantt chart.
+	 *
+	 * @param builder the builder receiving the line.
+	 * @param index   the index.
+	 * @param entry   the number of the entry.
+	 */
+	private static void append(StringBuilder builder, GanttIndex index, long entry) {
+		builder.append(index.getStart(entry)).append(' ')
+			.append(index.getEnd(entry)).append(" P")
+			.append(index.getProcessID(entry)).append(System.lineSeparator());
+	}
+}
@@ -0,0 +1,63 @@
+package com.zhunio.process.schedule.gantt;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Receives the entries of a Gantt chart as a {@code ScheduleAlgorithm}
+ * produces them, so the chart never has to be held in memory. An entry
+ * states that the process {@code processID} used the CPU from {@code start}
+ * to {@code end}; entries are emitted in order of {@code start}.
+ *
+ * Sinks writing to a file report write errors as
+ * {@code UncheckedIOException}, since entries are emitted from inside the
+ * simulation.
+ */
+public interface GanttSink extends Closeable {
+
+	/**
+	 * Receives the next entry of the Gantt chart.
+	 *
+	 * @param start     the time the process got the CPU.
+	 * @param end       the time the process released the CPU.
+	 * @param processID the ID of the process.
+	 */
+	void emit(int start, int end, int processID);
+
+	/**
+	 * Receives the next entry of the Gantt chart together with the priority
+	 * of the process. Sinks that do not need the priority ignore it.
+	 *
+	 * @param start     the time the process got the CPU.
+	 * @param end       the time the process released the CPU.
+	 * @param processID the ID of the process.
+	 * @param priority  the priority of the process.
+	 */
+	default void emit(int start, int end, int processID, int priority) {
+		emit(start, end, processID);
+	}
+
+	/**
+	 * Receives the completion of a process, after its last entry. Sinks that
+	 * only need the entries ignore it.
+	 *
+	 * @param processID  the ID of the process.
+	 * @param arriveTime the time the process arrived.
+	 * @param burstTime  the CPU time the process needed.
+	 * @param time       the time the process completed.
+	 */
+	default void complete(int processID, int arriveTime, int burstTime, int time) {
+	}
+
+	/**
+	 * Signals that the Gantt chart is complete, flushing and releasing
+	 * whatever the sink holds.
+	 *
+	 * @throws IOException if the entries cannot be written.
+	 */
+	@Override
+	default void close() throws IOException {
+	}
+}
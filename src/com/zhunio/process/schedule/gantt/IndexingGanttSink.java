@@ -0,0 +1,314 @@
+package com.zhunio.process.schedule.gantt;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Passes the entries of the Gantt chart on to another {@code GanttSink}
+ * while writing an index of them, to be queried with {@code GanttIndex}.
+ * The index is laid out as follows, little-endian:
+ *
+ * 'G' 'N' 'X' '1'	(magic bytes)
+ * 0			(reserved, int)
+ * n			(number of entries, long)
+ * m			(number of processes, long)
+ * s[n]			(start of every entry, int)
+ * e[n]			(end of every entry, int)
+ * p[n]			(process ID of every entry, int)
+ * i[m]			(process IDs in ascending order, int)
+ * 0			(int, if n + m is odd, so the longs that follow are aligned)
+ * o[m + 1]		(offset into x of the entries of every process, long)
+ * x[n]			(entries grouped by process in ascending order, long)
+ *
+ * Entries arrive in order of start, so {@code s} is sorted as written and
+ * the entries of process {@code i[k]} are {@code x[o[k]]} to
+ * {@code x[o[k + 1] - 1]}. The columns {@code e} and {@code p} go to
+ * temporary files next to the index while the simulation runs, and
+ * {@code x} is filled from {@code p} when the sink is closed. Only the
+ * number of entries of every process is held in memory, indexed by process
+ * ID, which the job pool parsers assign from 1 up.
+ */
+public class IndexingGanttSink implements GanttSink {
+	/* Magic bytes at the start of an index */
+	static final byte[] MAGIC = {'G', 'N', 'X', '1'};
+
+	/* Size of the header */
+	static final int HEADER = 24;
+
+	/* Size of the column buffers */
+	private static final int BUFFER_SIZE = 64 << 10;
+
+	/* Sink receiving the entries */
+	private GanttSink sink;
+
+	/* Index file, also receiving the start column */
+	private ColumnWriter starts;
+
+	/* Temporary file of the end column */
+	private File endsFile;
+
+	/* Writer of the end column */
+	private ColumnWriter ends;
+
+	/* Temporary file of the process ID column */
+	private File processIDsFile;
+
+	/* Writer of the process ID column */
+	private ColumnWriter processIDs;
+
+	/* Number of entries of every process, indexed by process ID */
+	private long[] counts;
+
+	/* Number of processes with entries */
+	private int processes;
+
+	/* Number of entries */
+	private long entries;
+
+	/**
+	 * Creates a new {@code IndexingGanttSink}, replacing the index file if it
+	 * exists.
+	 *
+	 * @param sink      the sink receiving the entries.
+	 * @param indexFile the index file.
+	 * @throws IOException if the files cannot be created.
+	 */
+	public IndexingGanttSink(GanttSink sink, File indexFile) throws IOException {
+		File directory = indexFile.getAbsoluteFile().getParentFile();
+
+		this.sink = sink;
+		this.counts = new long[1 << 10];
+		this.endsFile = File.createTempFile("index", ".ends", directory);
+		this.processIDsFile = File.createTempFile("index", ".pids", directory);
+
+		try {
+			this.starts = new ColumnWriter(indexFile);
+			this.ends = new ColumnWriter(endsFile);
+			this.processIDs = new ColumnWriter(processIDsFile);
+			this.starts.channel.position(HEADER);
+		} catch (IOException e) {
+			release();
+			throw e;
+		}
+	}
+
+	@Override
+	public void emit(int start, int end, int processID) {
+		index(start, end, processID);
+		sink.emit(start, end, processID);
+	}
+
+	@Override
+	public void emit(int start, int end, int processID, int priority) {
+		index(start, end, processID);
+		sink.emit(start, end, processID, priority);
+	}
+
+	@Override
+	public void complete(int processID, int arriveTime, int burstTime, int time) {
+		sink.complete(processID, arriveTime, burstTime, time);
+	}
+
+	/**
+	 * Completes the index and closes the underlying sink.
+	 *
+	 * @throws IOException if the index or the underlying sink cannot be
+	 *                     written.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			starts.drain();
+			ends.drain();
+			processIDs.drain();
+			writeIndex();
+		} finally {
+			try {
+				sink.close();
+			} finally {
+				release();
+			}
+		}
+	}
+
+	/**
+	 * Appends an entry to the columns.
+	 *
+	 * @param start     the time the process got the CPU.
+	 * @param end       the time the process released the CPU.
+	 * @param processID the ID of the process.
+	 */
+	private void index(int start, int end, int processID) {
+		if (processID < 0)
+			throw new IllegalArgumentException("Cannot index P" + processID);
+
+		if (processID >= counts.length)
+			counts = Arrays.copyOf(counts, Math.max(processID + 1, counts.length * 2));
+		if (counts[processID]++ == 0)
+			processes++;
+
+		starts.putInt(start);
+		ends.putInt(end);
+		processIDs.putInt(processID);
+		entries++;
+	}
+
+	/**
+	 * Appends the end and process ID columns to the start column, groups the
+	 * entries by process, and writes the header last.
+	 *
+	 * @throws IOException if the index cannot be written.
+	 */
+	private void writeIndex() throws IOException {
+		FileChannel index = starts.channel;
+
+		transfer(ends.channel, index);
+		transfer(processIDs.channel, index);
+
+		for (int processID = 0; processID < counts.length; processID++)
+			if (counts[processID] != 0)
+				starts.putInt(processID);
+
+		// Align the longs that follow
+		if ((entries + processes) % 2 != 0)
+			starts.putInt(0);
+
+		// The entries of every process follow those of the previous one, so
+		// the counts become the offsets of the first entry of every process
+		long offset = 0;
+		for (int processID = 0; processID < counts.length; processID++) {
+			if (counts[processID] == 0)
+				continue;
+
+			long count = counts[processID];
+			counts[processID] = offset;
+			starts.putLong(offset);
+			offset += count;
+		}
+		starts.putLong(offset);
+		starts.drain();
+
+		// Scatter the entries into their process
+		MappedFile column = new MappedFile(processIDs.channel,
+			FileChannel.MapMode.READ_ONLY, 0, (long) Integer.BYTES * entries);
+		MappedFile grouped = new MappedFile(index,
+			FileChannel.MapMode.READ_WRITE, index.position(), (long) Long.BYTES * entries);
+
+		for (long entry = 0; entry < entries; entry++)
+			grouped.putLong(Long.BYTES * counts[column.getInt(Integer.BYTES * entry)]++, entry);
+
+		ByteBuffer header = ByteBuffer.allocate(HEADER).order(ByteOrder.LITTLE_ENDIAN);
+		header.put(MAGIC).putInt(0).putLong(entries).putLong(processes).flip();
+		while (header.hasRemaining())
+			index.write(header, header.position());
+	}
+
+	/**
+	 * Appends the whole file of the source channel to the target channel.
+	 *
+	 * @param source the source channel.
+	 * @param target the target channel, positioned at its end.
+	 * @throws IOException if the file cannot be copied.
+	 */
+	private static void transfer(FileChannel source, FileChannel target) throws IOException {
+		long size = source.size();
+
+		for (long done = 0; done < size; )
+			done += source.transferTo(done, size - done, target);
+	}
+
+	/**
+	 * Closes the files and removes the temporary ones.
+	 *
+	 * @throws IOException if a file cannot be closed.
+	 */
+	private void release() throws IOException {
+		try {
+			for (ColumnWriter writer : new ColumnWriter[]{starts, ends, processIDs})
+				if (writer != null)
+					writer.channel.close();
+		} finally {
+			endsFile.delete();
+			processIDsFile.delete();
+		}
+	}
+
+	/**
+	 * Buffered writer of little-endian values to a file.
+	 */
+	private static class ColumnWriter {
+		/* Channel of the file */
+		private FileChannel channel;
+
+		/* Buffer holding the values not written yet */
+		private ByteBuffer buffer;
+
+		/**
+		 * Creates a new {@code ColumnWriter}, replacing the file if it exists.
+		 *
+		 * @param file the file.
+		 * @throws IOException if the file cannot be opened.
+		 */
+		ColumnWriter(File file) throws IOException {
+			this.channel = FileChannel.open(file.toPath(), StandardOpenOption.CREATE,
+				StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+			this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+		}
+
+		/**
+		 * Appends an int.
+		 *
+		 * @param value the int.
+		 */
+		void putInt(int value) {
+			if (buffer.remaining() < Integer.BYTES)
+				flush();
+
+			buffer.putInt(value);
+		}
+
+		/**
+		 * Appends a long.
+		 *
+		 * @param value the long.
+		 */
+		void putLong(long value) {
+			if (buffer.remaining() < Long.BYTES)
+				flush();
+
+			buffer.putLong(value);
+		}
+
+		/**
+		 * Writes the buffer to the file from inside the simulation.
+		 */
+		private void flush() {
+			try {
+				drain();
+			} catch (IOException e) {
+				throw new UncheckedIOException(e);
+			}
+		}
+
+		/**
+		 * Writes the buffer to the file and empties it.
+		 *
+		 * @throws IOException if the buffer cannot be written.
+		 */
+		void drain() throws IOException {
+			buffer.flip();
+			while (buffer.hasRemaining())
+				channel.write(buffer);
+			buffer.clear();
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.zhunio.process.schedule.gantt;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Collects the Gantt chart into a {@code List} of lines of the form
+ * "start end P#", the result {@code ScheduleAlgorithm.run} has always
+ * returned. Holds the whole chart in memory.
+ */
+public class ListGanttSink implements GanttSink {
+	/* The lines of the Gantt chart */
+	private List<String> lines;
+
+	/**
+	 * Creates a new {@code ListGanttSink}.
+	 */
+	public ListGanttSink() {
+		this.lines = new ArrayList<>();
+	}
+
+	@Override
+	public void emit(int start, int end, int processID) {
+		lines.add(start + " " + end + " P" + processID);
+	}
+
+	/**
+	 * Retrieves the lines collected so far.
+	 * @return the lines of the Gantt chart.
+	 */
+	public List<String> getLines() {
+		return lines;
+	}
+}
@@ -0,0 +1,79 @@
+package com.zhunio.process.schedule.gantt;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Maps a region of a file into memory in segments, so regions larger than
+ * the 2GB a single {@code MappedByteBuffer} can address are read and written
+ * through a long position. Values must be aligned to their own size within
+ * the region, so none of them spans two segments.
+ */
+class MappedFile {
+	/* Bits of a position addressing a byte within a segment */
+	private static final int SEGMENT_BITS = 30;
+
+	/* Mask of a position addressing a byte within a segment */
+	private static final long SEGMENT_MASK = (1L << SEGMENT_BITS) - 1;
+
+	/* Segments of the region, in order */
+	private MappedByteBuffer[] segments;
+
+	/**
+	 * Maps a region of the given file. The file grows to cover the region if
+	 * it is mapped for writing.
+	 *
+	 * @param channel  the channel of the file.
+	 * @param mode     the mapping mode.
+	 * @param position the position in the file of the region.
+	 * @param size     the size of the region.
+	 * @throws IOException if the region cannot be mapped.
+	 */
+	MappedFile(FileChannel channel, FileChannel.MapMode mode, long position, long size)
+		throws IOException {
+		int count = (int) ((size + SEGMENT_MASK) >>> SEGMENT_BITS);
+		this.segments = new MappedByteBuffer[count];
+
+		for (int i = 0; i < count; i++) {
+			long offset = (long) i << SEGMENT_BITS;
+			long length = Math.min(size - offset, 1L << SEGMENT_BITS);
+
+			segments[i] = channel.map(mode, position + offset, length);
+			segments[i].order(ByteOrder.LITTLE_ENDIAN);
+		}
+	}
+
+	/**
+	 * Reads the int at the given position of the region.
+	 *
+	 * @param position the position, a multiple of 4.
+	 * @return the int.
+	 */
+	int getInt(long position) {
+		return segments[(int) (position >>> SEGMENT_BITS)].getInt((int) (position & SEGMENT_MASK));
+	}
+
+	/**
+	 * Reads the long at the given position of the region.
+	 *
+	 * @param position the position, a multiple of 8.
+	 * @return the long.
+	 */
+	long getLong(long position) {
+		return segments[(int) (position >>> SEGMENT_BITS)].getLong((int) (position & SEGMENT_MASK));
+	}
+
+	/**
+	 * Writes a long at the given position of the region.
+	 *
+	 * @param position the position, a multiple of 8.
+	 * @param value    the long.
+	 */
+	void putLong(long position, long value) {
+		segments[(int) (position >>> SEGMENT_BITS)].putLong((int) (position & SEGMENT_MASK), value);
+	}
+}
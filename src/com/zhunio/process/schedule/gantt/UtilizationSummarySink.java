@@ -0,0 +1,197 @@
+package com.zhunio.process.schedule.gantt;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Summarizes the Gantt chart over fixed time windows instead of keeping its
+ * entries. For each window [start, end) a line is written:
+ *
+ * start end busy=B idle=I switches=S p1=T1 p2=T2 ...
+ *
+ * where {@code B} is the time the CPU was in use, {@code I} the time it was
+ * idle, {@code S} the number of context switches, that is entries whose
+ * process differs from the process of the previous entry, and {@code Tn}
+ * the CPU time of the processes with priority {@code n}. That is the own
+ * priority of a process, as stated by the job pool: a process aged by
+ * {@code P_PL} while it waits runs with its own priority again, so the
+ * priority it was selected with never shows up here. The last window ends
+ * with the simulation.
+ *
+ * Entries arrive in order of start time, so a window is written as soon as
+ * an entry starts past its end, and only the current window is held.
+ */
+public class UtilizationSummarySink implements GanttSink {
+	/* Writer of the summary */
+	private BufferedWriter writer;
+
+	/* Length of a window */
+	private int window;
+
+	/* Start of the current window */
+	private long windowStart;
+
+	/* Busy time in the current window */
+	private long busy;
+
+	/* Context switches in the current window */
+	private long switches;
+
+	/* Priorities seen so far, in ascending order */
+	private int[] priorities;
+
+	/* CPU time per priority in the current window, parallel to priorities */
+	private long[] cpuTimes;
+
+	/* Number of priorities seen so far */
+	private int priorityCount;
+
+	/* Whether an entry was received */
+	private boolean started;
+
+	/* Process of the previous entry */
+	private int previousProcessID;
+
+	/* End of the previous entry */
+	private long end;
+
+	/**
+	 * Creates a new {@code UtilizationSummarySink}, replacing the file if it
+	 * exists.
+	 *
+	 * @param file   the summary file.
+	 * @param window the length of a window.
+	 * @throws IOException if the file cannot be opened.
+	 */
+	public UtilizationSummarySink(File file, int window) throws IOException {
+		if (window <= 0)
+			throw new IllegalArgumentException("Invalid window: " + window);
+
+		this.writer = new BufferedWriter(new FileWriter(file));
+		this.window = window;
+		this.priorities = new int[16];
+		this.cpuTimes = new long[16];
+	}
+
+	/**
+	 * Entries without a priority are counted under priority 0.
+	 */
+	@Override
+	public void emit(int start, int end, int processID) {
+		emit(start, end, processID, 0);
+	}
+
+	@Override
+	public void emit(int start, int end, int processID, int priority) {
+
+		// Write every window ending before this entry starts
+		while (start >= windowStart + window)
+			nextWindow();
+
+		if (started && processID != previousProcessID)
+			switches++;
+		started = true;
+		previousProcessID = processID;
+		this.end = Math.max(this.end, end);
+
+		int index = indexOf(priority);
+
+		// Spread the entry over the windows it spans
+		long from = start;
+		while (from < end) {
+			long to = Math.min(end, windowStart + window);
+			busy += to - from;
+			cpuTimes[index] += to - from;
+			from = to;
+
+			if (from == windowStart + window)
+				nextWindow();
+		}
+	}
+
+	/**
+	 * Writes the last window, which ends with the simulation, and closes the
+	 * file.
+	 *
+	 * @throws IOException if the summary cannot be written.
+	 */
+	@Override
+	public void close() throws IOException {
+		try {
+			if (windowStart < end)
+				writeWindow(end);
+		} finally {
+			writer.close();
+		}
+	}
+
+	/**
+	 * Writes the current window and starts the next one.
+	 */
+	private void nextWindow() {
+		try {
+			writeWindow(windowStart + window);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+
+		windowStart += window;
+		busy = 0;
+		switches = 0;
+		Arrays.fill(cpuTimes, 0, priorityCount, 0);
+	}
+
+	/**
+	 * Writes the line of the current window.
+	 *
+	 * @param windowEnd the end of the window.
+	 * @throws IOException if the line cannot be written.
+	 */
+	private void writeWindow(long windowEnd) throws IOException {
+		StringBuilder line = new StringBuilder();
+		line.append(windowStart).append(' ').append(windowEnd)
+			.append(" busy=").append(busy)
+			.append(" idle=").append(windowEnd - windowStart - busy)
+			.append(" switches=").append(switches);
+
+		for (int i = 0; i < priorityCount; i++)
+			if (cpuTimes[i] > 0)
+				line.append(" p").append(priorities[i]).append('=').append(cpuTimes[i]);
+
+		writer.write(line.toString());
+		writer.newLine();
+	}
+
+	/**
+	 * Finds the position of a priority, adding it if it was not seen before.
+	 *
+	 * @param priority the priority.
+	 * @return the position of the priority.
+	 */
+	private int indexOf(int priority) {
+		int index = Arrays.binarySearch(priorities, 0, priorityCount, priority);
+		if (index >= 0)
+			return index;
+
+		// Insert the priority in order
+		index = -index - 1;
+		if (priorityCount == priorities.length) {
+			priorities = Arrays.copyOf(priorities, priorityCount * 2);
+			cpuTimes = Arrays.copyOf(cpuTimes, priorityCount * 2);
+		}
+
+		System.arraycopy(priorities, index, priorities, index + 1, priorityCount - index);
+		System.arraycopy(cpuTimes, index, cpuTimes, index + 1, priorityCount - index);
+		priorities[index] = priority;
+		cpuTimes[index] = 0;
+		priorityCount++;
+
+		return index;
+	}
+}
@@ -0,0 +1,38 @@
+package com.zhunio.process.schedule.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Flight Recorder event of a single dispatch, recorded for one dispatch in
+ * every {@code SAMPLE_INTERVAL}. The interval is read from the system
+ * property {@code scheduler.jfr.dispatchSample}, 1024 unless set; 0 records
+ * no dispatch.
+ */
+@Name("com.zhunio.process.Dispatch")
+@Label("Dispatch")
+@Category("Process Scheduler")
+@Description("Sampled dispatch of a process to the CPU")
+@StackTrace(false)
+public class DispatchEvent extends Event {
+	/* Number of dispatches per recorded dispatch */
+	public static final int SAMPLE_INTERVAL = Integer.getInteger("scheduler.jfr.dispatchSample", 1024);
+
+	@Label("Process ID")
+	public int processID;
+
+	@Label("Queue Depth")
+	@Description("Processes left waiting after the selection")
+	public int queueDepth;
+
+	@Label("Selection Latency")
+	@Timespan(Timespan.NANOSECONDS)
+	public long selectionLatency;
+}
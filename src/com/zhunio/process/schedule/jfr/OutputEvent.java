@@ -0,0 +1,33 @@
+package com.zhunio.process.schedule.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Flight Recorder event spanning a simulation and the writing of its
+ * output, with the time spent in the {@code GanttSink} on its own. The
+ * output is written while the simulation runs, so the difference between
+ * the two is the time of the simulation.
+ */
+@Name("com.zhunio.process.Output")
+@Label("Output")
+@Category("Process Scheduler")
+@Description("Writing of the Gantt chart during a simulation")
+public class OutputEvent extends Event {
+
+	@Label("Output File")
+	public String outputFile;
+
+	@Label("Entries")
+	public long entries;
+
+	@Label("Output Time")
+	@Timespan(Timespan.NANOSECONDS)
+	public long outputTime;
+}
@@ -0,0 +1,25 @@
+package com.zhunio.process.schedule.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Flight Recorder event spanning the parse of a job pool into a ready queue.
+ */
+@Name("com.zhunio.process.Parse")
+@Label("Job Pool Parse")
+@Category("Process Scheduler")
+@Description("Parse of a job pool into a ready queue")
+public class ParseEvent extends Event {
+
+	@Label("Job Pool")
+	public String jobPool;
+
+	@Label("Processes")
+	public long processes;
+}
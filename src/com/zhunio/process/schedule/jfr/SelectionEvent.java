@@ -0,0 +1,33 @@
+package com.zhunio.process.schedule.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Flight Recorder event spanning a simulation, with the time its schedule
+ * algorithm spent selecting the next process to dispatch. Selections are
+ * far too frequent to record one by one, so their time is summed over the
+ * simulation.
+ */
+@Name("com.zhunio.process.Selection")
+@Label("Process Selection")
+@Category("Process Scheduler")
+@Description("Time spent selecting the next process over a simulation")
+public class SelectionEvent extends Event {
+
+	@Label("Algorithm")
+	public String algorithm;
+
+	@Label("Selections")
+	public long selections;
+
+	@Label("Selection Time")
+	@Timespan(Timespan.NANOSECONDS)
+	public long selectionTime;
+}
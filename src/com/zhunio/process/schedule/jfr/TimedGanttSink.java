@@ -0,0 +1,83 @@
+package com.zhunio.process.schedule.jfr;
+
+import com.zhunio.process.schedule.gantt.GanttSink;
+import jdk.jfr.FlightRecorder;
+
+import java.io.IOException;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Passes the entries of the Gantt chart on to another {@code GanttSink},
+ * timing every call, and records an {@code OutputEvent} once the sink is
+ * closed. Only used while the event is enabled, since reading the clock
+ * around every entry is not free.
+ */
+public class TimedGanttSink implements GanttSink {
+	/* Sink receiving the entries */
+	private GanttSink sink;
+
+	/* Event spanning the output */
+	private OutputEvent event;
+
+	/**
+	 * Creates a new {@code TimedGanttSink} and begins its event.
+	 *
+	 * @param sink       the sink receiving the entries.
+	 * @param outputFile the file the sink writes.
+	 */
+	public TimedGanttSink(GanttSink sink, String outputFile) {
+		this.sink = sink;
+		this.event = new OutputEvent();
+		this.event.outputFile = outputFile;
+		this.event.begin();
+	}
+
+	/**
+	 * Checks if output events are recorded. Flight Recorder is not loaded
+	 * unless it already runs.
+	 * @return true if an {@code OutputEvent} would be recorded.
+	 */
+	public static boolean isEnabled() {
+		return FlightRecorder.isInitialized() && new OutputEvent().isEnabled();
+	}
+
+	@Override
+	public void emit(int start, int end, int processID) {
+		long begin = System.nanoTime();
+		sink.emit(start, end, processID);
+		event.outputTime += System.nanoTime() - begin;
+		event.entries++;
+	}
+
+	@Override
+	public void emit(int start, int end, int processID, int priority) {
+		long begin = System.nanoTime();
+		sink.emit(start, end, processID, priority);
+		event.outputTime += System.nanoTime() - begin;
+		event.entries++;
+	}
+
+	@Override
+	public void complete(int processID, int arriveTime, int burstTime, int time) {
+		long begin = System.nanoTime();
+		sink.complete(processID, arriveTime, burstTime, time);
+		event.outputTime += System.nanoTime() - begin;
+	}
+
+	/**
+	 * Closes the underlying sink and records the event.
+	 *
+	 * @throws IOException if the underlying sink cannot be closed.
+	 */
+	@Override
+	public void close() throws IOException {
+		long begin = System.nanoTime();
+		try {
+			sink.close();
+		} finally {
+			event.outputTime += System.nanoTime() - begin;
+			event.commit();
+		}
+	}
+}
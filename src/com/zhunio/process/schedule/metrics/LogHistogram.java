@@ -0,0 +1,133 @@
+package com.zhunio.process.schedule.metrics;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Histogram of non-negative values in a fixed number of logarithmic
+ * buckets. Values below 2^SUB_BITS have a bucket each; above that, every
+ * power of two is split into 2^SUB_BITS buckets, so a percentile is
+ * reported within 1/2^SUB_BITS of the recorded value whatever the number of
+ * values. The count, sum and maximum are exact.
+ */
+public class LogHistogram {
+	/* Bits of a value kept below its highest bit */
+	private static final int SUB_BITS = 7;
+
+	/* Number of buckets per power of two */
+	private static final int SUB_BUCKETS = 1 << SUB_BITS;
+
+	/* Number of values recorded per bucket */
+	private long[] buckets;
+
+	/* Number of values recorded */
+	private long count;
+
+	/* Sum of the values recorded */
+	private long sum;
+
+	/* Largest value recorded */
+	private long max;
+
+	/**
+	 * Creates a new, empty {@code LogHistogram}.
+	 */
+	public LogHistogram() {
+		this.buckets = new long[(Long.SIZE - SUB_BITS) * SUB_BUCKETS];
+	}
+
+	/**
+	 * Records a value.
+	 *
+	 * @param value the value.
+	 */
+	public void record(long value) {
+		if (value < 0)
+			throw new IllegalArgumentException("Negative value: " + value);
+
+		buckets[bucketOf(value)]++;
+		count++;
+		sum += value;
+		max = Math.max(max, value);
+	}
+
+	/**
+	 * Retrieves the number of values recorded.
+	 * @return the number of values recorded.
+	 */
+	public long getCount() {
+		return count;
+	}
+
+	/**
+	 * Retrieves the mean of the values recorded.
+	 * @return the mean, 0 if no value was recorded.
+	 */
+	public double getMean() {
+		return count == 0 ? 0 : (double) sum / count;
+	}
+
+	/**
+	 * Retrieves the largest value recorded.
+	 * @return the largest value, 0 if no value was recorded.
+	 */
+	public long getMax() {
+		return max;
+	}
+
+	/**
+	 * Retrieves the value below or at which the given percentage of the
+	 * values recorded fall, rounded up to the end of its bucket.
+	 *
+	 * @param percentile the percentage, between 0 and 100.
+	 * @return the percentile, 0 if no value was recorded.
+	 */
+	public long getPercentile(double percentile) {
+		if (percentile < 0 || percentile > 100)
+			throw new IllegalArgumentException("Invalid percentile: " + percentile);
+
+		// Rank of the value in ascending order, from 1
+		long rank = Math.max(1, (long) Math.ceil(percentile / 100 * count));
+
+		long seen = 0;
+		for (int bucket = 0; bucket < buckets.length; bucket++) {
+			seen += buckets[bucket];
+
+			if (seen >= rank)
+				return Math.min(max, highestOf(bucket));
+		}
+
+		return max;
+	}
+
+	/**
+	 * Finds the bucket of a value.
+	 *
+	 * @param value the value.
+	 * @return the bucket.
+	 */
+	private static int bucketOf(long value) {
+		if (value < SUB_BUCKETS)
+			return (int) value;
+
+		// Keep the SUB_BITS bits below the highest bit
+		int shift = Long.SIZE - Long.numberOfLeadingZeros(value) - 1 - SUB_BITS;
+
+		return (shift + 1) * SUB_BUCKETS + (int) (value >>> shift) - SUB_BUCKETS;
+	}
+
+	/**
+	 * Finds the highest value of a bucket.
+	 *
+	 * @param bucket the bucket.
+	 * @return the highest value falling into the bucket.
+	 */
+	private static long highestOf(int bucket) {
+		if (bucket < SUB_BUCKETS)
+			return bucket;
+
+		int shift = bucket / SUB_BUCKETS - 1;
+		long lowest = (long) (bucket % SUB_BUCKETS + SUB_BUCKETS) << shift;
+
+		return lowest + (1L << shift) - 1;
+	}
+}
@@ -0,0 +1,196 @@
+package com.zhunio.process.schedule.metrics;
+
+import com.zhunio.process.schedule.gantt.GanttSink;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Measures the waiting, turnaround and response times of the processes
+ * while the Gantt chart is emitted, passing the entries on to another
+ * {@code GanttSink}. The time a process first got the CPU and the time it
+ * completed are kept per process ID, and every completion is recorded into
+ * a {@code LogHistogram} per metric, so the chart never has to be read
+ * back:
+ *
+ * waiting    = completion - arrive time - burst time
+ * turnaround = completion - arrive time
+ * response   = first run - arrive time
+ */
+public class SchedulingMetrics implements GanttSink {
+	/* Marks a process that has not got the CPU yet */
+	private static final int NEVER = -1;
+
+	/* Sink receiving the entries */
+	private GanttSink sink;
+
+	/* Time every process first got the CPU, indexed by process ID */
+	private int[] firstRunTimes;
+
+	/* Time every process completed, indexed by process ID */
+	private int[] completionTimes;
+
+	/* Waiting times of the completed processes */
+	private LogHistogram waiting;
+
+	/* Turnaround times of the completed processes */
+	private LogHistogram turnaround;
+
+	/* Response times of the completed processes */
+	private LogHistogram response;
+
+	/**
+	 * Creates a new {@code SchedulingMetrics}.
+	 *
+	 * @param sink the sink receiving the entries.
+	 */
+	public SchedulingMetrics(GanttSink sink) {
+		this.sink = sink;
+		this.firstRunTimes = new int[0];
+		this.completionTimes = new int[0];
+		this.waiting = new LogHistogram();
+		this.turnaround = new LogHistogram();
+		this.response = new LogHistogram();
+	}
+
+	@Override
+	public void emit(int start, int end, int processID) {
+		firstRun(start, processID);
+		sink.emit(start, end, processID);
+	}
+
+	@Override
+	public void emit(int start, int end, int processID, int priority) {
+		firstRun(start, processID);
+		sink.emit(start, end, processID, priority);
+	}
+
+	@Override
+	public void complete(int processID, int arriveTime, int burstTime, int time) {
+		int firstRunTime = getFirstRunTime(processID);
+		if (firstRunTime == NEVER)
+			throw new IllegalStateException("P" + processID + " completed without running");
+
+		completionTimes[processID] = time;
+		waiting.record((long) time - arriveTime - burstTime);
+		turnaround.record((long) time - arriveTime);
+		response.record((long) firstRunTime - arriveTime);
+
+		sink.complete(processID, arriveTime, burstTime, time);
+	}
+
+	@Override
+	public void close() throws IOException {
+		sink.close();
+	}
+
+	/**
+	 * Retrieves the time a process first got the CPU.
+	 *
+	 * @param processID the ID of the process.
+	 * @return the time, or -1 if the process has not got the CPU.
+	 */
+	public int getFirstRunTime(int processID) {
+		return processID < firstRunTimes.length ? firstRunTimes[processID] : NEVER;
+	}
+
+	/**
+	 * Retrieves the time a process completed.
+	 *
+	 * @param processID the ID of the process.
+	 * @return the time, or -1 if the process has not completed.
+	 */
+	public int getCompletionTime(int processID) {
+		return processID < completionTimes.length ? completionTimes[processID] : NEVER;
+	}
+
+	/**
+	 * Retrieves the waiting times of the completed processes.
+	 * @return the histogram of the waiting times.
+	 */
+	public LogHistogram getWaiting() {
+		return waiting;
+	}
+
+	/**
+	 * Retrieves the turnaround times of the completed processes.
+	 * @return the histogram of the turnaround times.
+	 */
+	public LogHistogram getTurnaround() {
+		return turnaround;
+	}
+
+	/**
+	 * Retrieves the response times of the completed processes.
+	 * @return the histogram of the response times.
+	 */
+	public LogHistogram getResponse() {
+		return response;
+	}
+
+	/**
+	 * Writes a report with one line per metric:
+	 *
+	 * waiting count=N mean=M p50=P p99=Q max=X
+	 *
+	 * replacing the file if it exists.
+	 *
+	 * @param file the report file.
+	 * @throws IOException if the report cannot be written.
+	 */
+	public void writeReport(File file) throws IOException {
+		try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+			writeLine(writer, "waiting", waiting);
+			writeLine(writer, "turnaround", turnaround);
+			writeLine(writer, "response", response);
+		}
+	}
+
+	/**
+	 * Writes the line of a metric.
+	 *
+	 * @param writer    the writer of the report.
+	 * @param name      the name of the metric.
+	 * @param histogram the histogram of the metric.
+	 * @throws IOException if the line cannot be written.
+	 */
+	private static void writeLine(BufferedWriter writer, String name, LogHistogram histogram)
+		throws IOException {
+		writer.write(name + " count=" + histogram.getCount()
+			+ " mean=" + String.format(Locale.ROOT, "%.2f", histogram.getMean())
+			+ " p50=" + histogram.getPercentile(50)
+			+ " p99=" + histogram.getPercentile(99)
+			+ " max=" + histogram.getMax());
+		writer.newLine();
+	}
+
+	/**
+	 * Records the time a process first got the CPU, if it had not yet.
+	 *
+	 * @param start     the start of an entry of the process.
+	 * @param processID the ID of the process.
+	 */
+	private void firstRun(int start, int processID) {
+		if (processID < 0)
+			throw new IllegalArgumentException("Cannot measure P" + processID);
+
+		if (processID >= firstRunTimes.length) {
+			int length = Math.max(processID + 1, Math.max(1 << 10, firstRunTimes.length * 2));
+			int from = firstRunTimes.length;
+
+			firstRunTimes = Arrays.copyOf(firstRunTimes, length);
+			completionTimes = Arrays.copyOf(completionTimes, length);
+			Arrays.fill(firstRunTimes, from, length, NEVER);
+			Arrays.fill(completionTimes, from, length, NEVER);
+		}
+
+		if (firstRunTimes[processID] == NEVER)
+			firstRunTimes[processID] = start;
+	}
+}
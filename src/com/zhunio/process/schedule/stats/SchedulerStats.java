@@ -0,0 +1,231 @@
+package com.zhunio.process.schedule.stats;
+
+import java.lang.management.ManagementFactory;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.ObjectName;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Counters of the hot paths of the simulation, enabled with the system
+ * property {@code scheduler.stats=true}. The property is read once, when
+ * the class is loaded, into the constant {@code ENABLED}; every call site
+ * tests it first,
+ *
+ * if (SchedulerStats.ENABLED)
+ * 	SchedulerStats.dispatched();
+ *
+ * so with the counters disabled the JIT removes the calls altogether.
+ * The counters are {@code LongAdder}s, striped per thread, so simulations
+ * running side by side do not contend on them, and they may be read from
+ * JMX or the progress line while the simulations run.
+ */
+public class SchedulerStats implements SchedulerStatsMBean {
+	/* Whether the counters are enabled */
+	public static final boolean ENABLED = Boolean.getBoolean("scheduler.stats");
+
+	/* Name of the MBean */
+	private static final String NAME = "com.zhunio.process:type=SchedulerStats";
+
+	/* Events handled */
+	private static final LongAdder events = new LongAdder();
+
+	/* Processes given the CPU */
+	private static final LongAdder dispatches = new LongAdder();
+
+	/* Processes taken off the CPU before they completed */
+	private static final LongAdder preemptions = new LongAdder();
+
+	/* Times the CPU idled until the next arrival */
+	private static final LongAdder idleAdvances = new LongAdder();
+
+	/* Processes added to the queues of arrived processes */
+	private static final LongAdder queueInserts = new LongAdder();
+
+	/* Processes taken from the queues of arrived processes */
+	private static final LongAdder queuePolls = new LongAdder();
+
+	/* Largest number of processes a queue of arrived processes held */
+	private static final LongAccumulator peakQueueDepth = new LongAccumulator(Math::max, 0);
+
+	/* Time simulated */
+	private static final LongAdder simulatedTime = new LongAdder();
+
+	/* Wall time at which the counters were enabled */
+	private static final long START = System.nanoTime();
+
+	static {
+		if (ENABLED) {
+			try {
+				ManagementFactory.getPlatformMBeanServer()
+					.registerMBean(new SchedulerStats(), new ObjectName(NAME));
+			} catch (Exception e) {
+				System.err.println("Cannot publish " + NAME + ": " + e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * Counts an event handled by the simulation kernel.
+	 */
+	public static void event() {
+		events.increment();
+	}
+
+	/**
+	 * Counts a process given the CPU.
+	 */
+	public static void dispatched() {
+		dispatches.increment();
+	}
+
+	/**
+	 * Counts a process taken off the CPU before it completed.
+	 */
+	public static void preempted() {
+		preemptions.increment();
+	}
+
+	/**
+	 * Counts the CPU idling until the next arrival.
+	 */
+	public static void idled() {
+		idleAdvances.increment();
+	}
+
+	/**
+	 * Counts a process added to a queue of arrived processes.
+	 *
+	 * @param depth the number of processes in the queue after the insert.
+	 */
+	public static void inserted(int depth) {
+		queueInserts.increment();
+		peakQueueDepth.accumulate(depth);
+	}
+
+	/**
+	 * Counts a process taken from a queue of arrived processes.
+	 */
+	public static void polled() {
+		queuePolls.increment();
+	}
+
+	/**
+	 * Counts the time the simulation clock advanced.
+	 *
+	 * @param time the time simulated.
+	 */
+	public static void advanced(int time) {
+		simulatedTime.add(time);
+	}
+
+	/**
+	 * Prints a progress line to the standard error every given number of
+	 * seconds, from a daemon thread, until the program exits.
+	 *
+	 * @param seconds the interval between two lines.
+	 */
+	public static void startProgress(int seconds) {
+		if (seconds <= 0)
+			throw new IllegalArgumentException("Invalid progress interval: " + seconds);
+
+		SchedulerStats stats = new SchedulerStats();
+		ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(task -> {
+			Thread thread = new Thread(task, "scheduler-progress");
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		long[] previous = new long[1];
+		executor.scheduleAtFixedRate(() -> {
+			long current = stats.getEvents();
+			System.err.println(stats.progress((current - previous[0]) / seconds));
+			previous[0] = current;
+		}, seconds, seconds, TimeUnit.SECONDS);
+	}
+
+	/**
+	 * Builds a progress line over the whole run, with the events handled per
+	 * second of wall time since the counters were enabled.
+	 *
+	 * @return the progress line.
+	 */
+	public static String progress() {
+		SchedulerStats stats = new SchedulerStats();
+		long wall = Math.max(1, stats.getWallTimeMillis());
+
+		return stats.progress(stats.getEvents() * 1000 / wall);
+	}
+
+	@Override
+	public long getEvents() {
+		return events.sum();
+	}
+
+	@Override
+	public long getDispatches() {
+		return dispatches.sum();
+	}
+
+	@Override
+	public long getPreemptions() {
+		return preemptions.sum();
+	}
+
+	@Override
+	public long getIdleAdvances() {
+		return idleAdvances.sum();
+	}
+
+	@Override
+	public long getQueueInserts() {
+		return queueInserts.sum();
+	}
+
+	@Override
+	public long getQueuePolls() {
+		return queuePolls.sum();
+	}
+
+	@Override
+	public long getPeakQueueDepth() {
+		return peakQueueDepth.get();
+	}
+
+	@Override
+	public long getSimulatedTime() {
+		return simulatedTime.sum();
+	}
+
+	@Override
+	public long getWallTimeMillis() {
+		return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - START);
+	}
+
+	@Override
+	public double getSimulatedTimePerSecond() {
+		long wall = Math.max(1, getWallTimeMillis());
+
+		return getSimulatedTime() * 1000.0 / wall;
+	}
+
+	/**
+	 * Builds the progress line.
+	 *
+	 * @param eventsPerSecond the events handled per second since the last
+	 *                        line.
+	 * @return the progress line.
+	 */
+	private String progress(long eventsPerSecond) {
+		return String.format(Locale.ROOT, "progress wall=%.1fs simulated=%d events=%d events/s=%d"
+				+ " dispatches=%d preemptions=%d idle=%d inserts=%d polls=%d peak-depth=%d",
+			getWallTimeMillis() / 1000.0, getSimulatedTime(), getEvents(), eventsPerSecond,
+			getDispatches(), getPreemptions(), getIdleAdvances(), getQueueInserts(),
+			getQueuePolls(), getPeakQueueDepth());
+	}
+}
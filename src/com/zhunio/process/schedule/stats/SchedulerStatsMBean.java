@@ -0,0 +1,74 @@
+package com.zhunio.process.schedule.stats;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Management interface of {@code SchedulerStats}, published over JMX as
+ * com.zhunio.process:type=SchedulerStats.
+ */
+public interface SchedulerStatsMBean {
+
+	/**
+	 * Retrieves the number of events the simulations handled.
+	 * @return the number of events.
+	 */
+	long getEvents();
+
+	/**
+	 * Retrieves the number of times a process was given the CPU.
+	 * @return the number of dispatches.
+	 */
+	long getDispatches();
+
+	/**
+	 * Retrieves the number of times a process was taken off the CPU before
+	 * it completed.
+	 * @return the number of preemptions.
+	 */
+	long getPreemptions();
+
+	/**
+	 * Retrieves the number of times the CPU idled until the next arrival.
+	 * @return the number of idle advances.
+	 */
+	long getIdleAdvances();
+
+	/**
+	 * Retrieves the number of processes added to the queues of arrived
+	 * processes.
+	 * @return the number of queue inserts.
+	 */
+	long getQueueInserts();
+
+	/**
+	 * Retrieves the number of processes taken from the queues of arrived
+	 * processes.
+	 * @return the number of queue polls.
+	 */
+	long getQueuePolls();
+
+	/**
+	 * Retrieves the largest number of processes a queue of arrived
+	 * processes held.
+	 * @return the peak queue depth.
+	 */
+	long getPeakQueueDepth();
+
+	/**
+	 * Retrieves the time simulated, summed over the simulations.
+	 * @return the simulated time.
+	 */
+	long getSimulatedTime();
+
+	/**
+	 * Retrieves the wall time since the counters were enabled.
+	 * @return the wall time in milliseconds.
+	 */
+	long getWallTimeMillis();
+
+	/**
+	 * Retrieves the simulated time per second of wall time.
+	 * @return the simulated time per second.
+	 */
+	double getSimulatedTimePerSecond();
+}
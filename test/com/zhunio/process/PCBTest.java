@@ -0,0 +1,56 @@
+package com.zhunio.process;
+
+import com.zhunio.process.queue.ReadyQueue;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Checks that a {@code PCB} holds its own attributes, and that a
+ * {@code ReadyQueue} and a {@code ProcessTable} only exchange copies of them.
+ */
+class PCBTest {
+
+	@Test
+	void readyQueuesStoreACopyOfTheProcess() {
+		ReadyQueue readyQueue = new ReadyQueue(false, -1);
+		PCB process = new PCB(1, 0, 4, 2);
+		process.addCpuTime(3);
+
+		int handle = readyQueue.add(process);
+		process.setPriority(9);
+		process.addCpuTime(1);
+
+		ProcessTable table = readyQueue.getProcessTable();
+		assertEquals(2, table.getPriority(handle));
+		assertEquals(3, table.getCpuTime(handle));
+		assertEquals(4, process.getCpuTime());
+	}
+
+	@Test
+	void processTablesHandOutCopiesOfTheirRows() {
+		ProcessTable table = new ProcessTable(1);
+		int handle = table.add(1, 0, 4, 2);
+		table.setCpuTime(handle, 3);
+
+		PCB process = table.copy(handle);
+		PCB expected = new PCB(1, 0, 4, 2);
+		expected.setCpuTime(3);
+		assertEquals(expected, process);
+
+		process.setPriority(9);
+		assertEquals(2, table.getPriority(handle));
+	}
+
+	@Test
+	void processesArrivingTogetherAreOrderedByProcessID() {
+		PCB first = new PCB(1, 5, 4, 2);
+		PCB second = new PCB(2, 5, 1, 0);
+
+		assertEquals(-1, first.compareTo(second));
+		assertEquals(1, second.compareTo(first));
+		assertEquals(-1, new PCB(3, 4, 1, 0).compareTo(first));
+	}
+}
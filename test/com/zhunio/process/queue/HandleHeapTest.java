@@ -0,0 +1,164 @@
+package com.zhunio.process.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Checks that {@code HandleKey} packs keys ordering by their primary order,
+ * then by their tie-break, and that a {@code HandleHeap} polls handles in
+ * order of key however it was filled.
+ */
+class HandleHeapTest {
+
+	@Test
+	void packedKeysOrderByPrimaryThenTieBreak() {
+		int[] values = {Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -7, -1, 0, 1, 7,
+			Integer.MAX_VALUE - 1, Integer.MAX_VALUE};
+
+		for (int primary1 : values)
+			for (int tieBreak1 : values)
+				for (int primary2 : values)
+					for (int tieBreak2 : values) {
+						int expected = primary1 != primary2 ? Integer.compare(primary1, primary2)
+							: Integer.compare(tieBreak1, tieBreak2);
+
+						assertEquals(expected, Long.compare(HandleKey.pack(primary1, tieBreak1),
+							HandleKey.pack(primary2, tieBreak2)));
+					}
+
+		for (int primary : values)
+			for (int tieBreak : values) {
+				long key = HandleKey.pack(primary, tieBreak);
+				assertEquals(primary, HandleKey.primary(key));
+				assertEquals(tieBreak, HandleKey.tieBreak(key));
+			}
+	}
+
+	@Test
+	void pollsInOrderOfKey() {
+		SplittableRandom random = new SplittableRandom(12);
+		HandleHeap heap = new HandleHeap();
+		long[] keys = new long[1000];
+
+		for (int handle = 0; handle < keys.length; handle++) {
+			keys[handle] = HandleKey.pack(random.nextInt(-50, 50), handle);
+			heap.add(handle, keys[handle]);
+		}
+
+		assertEquals(keys.length, heap.size());
+		assertPolledInOrder(heap, keys);
+	}
+
+	@Test
+	void breaksTiesBySequence() {
+		HandleHeap heap = new HandleHeap();
+		int[] priorities = {4, 2, 4, 2, 4, 1, 2};
+
+		int sequence = Integer.MIN_VALUE;
+		for (int handle = 0; handle < priorities.length; handle++)
+			heap.add(handle, HandleKey.pack(priorities[handle], sequence++));
+
+		int[] polled = new int[priorities.length];
+		for (int i = 0; i < polled.length; i++)
+			polled[i] = heap.poll();
+
+		assertArrayEquals(new int[]{5, 1, 3, 6, 0, 2, 4}, polled);
+		assertEquals(HandleQueue.NONE, heap.poll());
+		assertEquals(HandleQueue.NONE, heap.peek());
+		assertEquals(Long.MAX_VALUE, heap.peekKey());
+	}
+
+	@Test
+	void keysHandlesAddedWithoutAKey() {
+		int[] arriveTimes = {9, 3, 3, 0, 12};
+		HandleHeap heap = new HandleHeap(handle -> HandleKey.pack(arriveTimes[handle], handle));
+
+		for (int handle = 0; handle < arriveTimes.length; handle++)
+			heap.add(handle);
+
+		assertEquals(3, heap.peek());
+		assertEquals(HandleKey.pack(0, 3), heap.peekKey());
+		for (int expected : new int[]{3, 1, 2, 0, 4})
+			assertEquals(expected, heap.poll());
+
+		assertThrows(UnsupportedOperationException.class, () -> new HandleHeap().add(0));
+	}
+
+	@Test
+	void heapifiesArraysInAnyOrder() {
+		SplittableRandom random = new SplittableRandom(13);
+
+		for (int count : new int[]{0, 1, 2, 3, 100, 1023}) {
+			int[] handles = new int[count + 5];
+			long[] keys = new long[count + 5];
+			long[] expected = new long[count];
+
+			for (int i = 0; i < count; i++) {
+				handles[i] = i;
+				keys[i] = HandleKey.pack(random.nextInt(20), i);
+				expected[i] = keys[i];
+			}
+
+			HandleHeap heap = new HandleHeap(null, handles.clone(), keys.clone(), count);
+			assertEquals(count, heap.size());
+			assertPolledInOrder(heap, expected);
+
+			// Handles added later take their place among the heapified ones
+			HandleHeap grown = new HandleHeap(null, handles, keys, count);
+			long[] grownKeys = Arrays.copyOf(expected, count + 40);
+			for (int i = count; i < grownKeys.length; i++) {
+				grownKeys[i] = HandleKey.pack(random.nextInt(20), i);
+				grown.add(i, grownKeys[i]);
+			}
+
+			assertPolledInOrder(grown, grownKeys);
+		}
+
+		assertTrue(new HandleHeap(null, new int[0], new long[0], 0).isEmpty());
+	}
+
+	@Test
+	void drainsInOrderOfKey() {
+		HandleHeap heap = new HandleHeap();
+		int[] priorities = {5, 1, 3, 1, 0};
+		for (int handle = 0; handle < priorities.length; handle++)
+			heap.add(handle, HandleKey.pack(priorities[handle], handle));
+
+		int[] handles = new int[priorities.length];
+		long[] keys = new long[priorities.length];
+
+		assertEquals(priorities.length, heap.drain(handles, keys));
+		assertArrayEquals(new int[]{4, 1, 3, 2, 0}, handles);
+		for (int i = 0; i < handles.length; i++)
+			assertEquals(HandleKey.pack(priorities[handles[i]], handles[i]), keys[i]);
+		assertTrue(heap.isEmpty());
+	}
+
+	/**
+	 * Polls every handle of a heap, checking that they come out in order of
+	 * key, each handle standing for the index of its key.
+	 *
+	 * @param heap the heap.
+	 * @param keys the key of every handle in the heap.
+	 */
+	private static void assertPolledInOrder(HandleHeap heap, long[] keys) {
+		long[] sorted = keys.clone();
+		Arrays.sort(sorted);
+
+		for (long key : sorted) {
+			assertEquals(key, heap.peekKey());
+			assertEquals(key, keys[heap.poll()]);
+		}
+
+		assertTrue(heap.isEmpty());
+	}
+}
@@ -0,0 +1,124 @@
+package com.zhunio.process.queue;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Checks that an {@code IndexedHandleHeap} keeps polling in order of key
+ * while keys are changed and handles removed from anywhere in the heap.
+ */
+class IndexedHandleHeapTest {
+
+	@Test
+	void changesKeysAndRemovesHandles() {
+		SplittableRandom random = new SplittableRandom(21);
+		IndexedHandleHeap heap = new IndexedHandleHeap();
+
+		// Key of every handle in the heap, Long.MAX_VALUE if absent
+		long[] keys = new long[300];
+		Arrays.fill(keys, Long.MAX_VALUE);
+
+		for (int operation = 0; operation < 50_000; operation++) {
+			int handle = random.nextInt(keys.length);
+			long key = HandleKey.pack(random.nextInt(-100, 100), handle);
+
+			switch (random.nextInt(4)) {
+				case 0:
+					if (keys[handle] == Long.MAX_VALUE) {
+						heap.add(handle, key);
+						keys[handle] = key;
+					}
+					break;
+				case 1:
+					if (heap.contains(handle)) {
+						assertEquals(keys[handle], heap.keyOf(handle));
+						heap.changeKey(handle, key);
+						keys[handle] = key;
+					}
+					break;
+				case 2:
+					assertEquals(keys[handle] != Long.MAX_VALUE, heap.remove(handle));
+					keys[handle] = Long.MAX_VALUE;
+					break;
+				default:
+					int lowest = lowest(keys);
+					assertEquals(lowest < 0 ? Long.MAX_VALUE : keys[lowest], heap.peekKey());
+					assertEquals(lowest < 0 ? HandleQueue.NONE : lowest, heap.poll());
+					if (lowest >= 0)
+						keys[lowest] = Long.MAX_VALUE;
+			}
+
+			assertEquals(count(keys), heap.size());
+		}
+	}
+
+	@Test
+	void refusesHandlesWithoutAKeyOrAlreadyInTheHeap() {
+		IndexedHandleHeap heap = new IndexedHandleHeap();
+		heap.add(40, HandleKey.pack(1, 40));
+
+		assertTrue(heap.contains(40));
+		assertFalse(heap.contains(-1));
+		assertFalse(heap.contains(41));
+		assertThrows(IllegalArgumentException.class, () -> heap.add(40, HandleKey.pack(0, 40)));
+		assertThrows(UnsupportedOperationException.class, () -> heap.add(3));
+	}
+
+	@Test
+	void drainsInOrderOfKey() {
+		IndexedHandleHeap heap = new IndexedHandleHeap();
+		int[] priorities = {5, 1, 3, 1, 0};
+		for (int handle = 0; handle < priorities.length; handle++)
+			heap.add(handle, HandleKey.pack(priorities[handle], handle));
+		heap.changeKey(0, HandleKey.pack(-1, 0));
+
+		int[] handles = new int[priorities.length];
+		long[] keys = new long[priorities.length];
+
+		assertEquals(priorities.length, heap.drain(handles, keys));
+		assertEquals(0, handles[0]);
+		assertEquals(HandleKey.pack(-1, 0), keys[0]);
+		assertEquals(4, handles[1]);
+		assertFalse(heap.contains(0));
+		assertTrue(heap.isEmpty());
+	}
+
+	/**
+	 * Finds the handle with the lowest key.
+	 *
+	 * @param keys the key of every handle, Long.MAX_VALUE if absent.
+	 * @return the handle, or -1 if every handle is absent.
+	 */
+	private static int lowest(long[] keys) {
+		int lowest = -1;
+		for (int handle = 0; handle < keys.length; handle++)
+			if (keys[handle] != Long.MAX_VALUE && (lowest < 0 || keys[handle] < keys[lowest]))
+				lowest = handle;
+
+		return lowest;
+	}
+
+	/**
+	 * Counts the handles in the heap.
+	 *
+	 * @param keys the key of every handle, Long.MAX_VALUE if absent.
+	 * @return the number of handles present.
+	 */
+	private static int count(long[] keys) {
+		int count = 0;
+		for (long key : keys)
+			if (key != Long.MAX_VALUE)
+				count++;
+
+		return count;
+	}
+}
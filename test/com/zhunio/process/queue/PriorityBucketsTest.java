@@ -0,0 +1,119 @@
+package com.zhunio.process.queue;
+
+import com.zhunio.process.ProcessTable;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Checks that {@code PriorityBuckets} polls the lowest priority across the
+ * words of its bitmap, first in first out within a priority, and bounds its
+ * range to {@code MAX_LEVELS} priorities.
+ */
+class PriorityBucketsTest {
+
+	@Test
+	void pollsTheLowestLevelAcrossWords() {
+		int[] priorities = {4095, 64, 63, 0, 4095, 64, 63, 0, 127, 128};
+		ProcessTable table = table(priorities);
+		PriorityBuckets buckets = new PriorityBuckets(table, 0, 4095);
+
+		for (int handle = 0; handle < priorities.length; handle++)
+			buckets.add(handle);
+
+		assertEquals(priorities.length, buckets.size());
+		assertEquals(3, buckets.peek());
+		for (int expected : new int[]{3, 7, 2, 6, 1, 5, 8, 9, 0, 4})
+			assertEquals(expected, buckets.poll());
+
+		assertTrue(buckets.isEmpty());
+		assertEquals(HandleQueue.NONE, buckets.peek());
+		assertEquals(HandleQueue.NONE, buckets.poll());
+	}
+
+	@Test
+	void refillsLevelsAndWordsThatWereEmptied() {
+		int[] priorities = {64, 0, 64, 0, 4095};
+		ProcessTable table = table(priorities);
+		PriorityBuckets buckets = new PriorityBuckets(table, 0, 4095);
+
+		buckets.add(0);
+		buckets.add(1);
+		assertEquals(1, buckets.poll());
+
+		// The word of level 0 is empty again, so level 64 comes first
+		buckets.add(4);
+		assertEquals(0, buckets.poll());
+		buckets.add(2);
+		buckets.add(3);
+		assertEquals(3, buckets.poll());
+		assertEquals(2, buckets.poll());
+		assertEquals(4, buckets.poll());
+	}
+
+	@Test
+	void keepsEntryOrderWithinALevel() {
+		int[] priorities = {7, 5, 7, 7, 5, 7};
+		PriorityBuckets buckets = new PriorityBuckets(table(priorities), 5, 7);
+
+		for (int handle = 0; handle < priorities.length; handle++)
+			buckets.add(handle);
+
+		// Handles polled go to the back of their level again
+		assertEquals(1, buckets.poll());
+		buckets.add(1);
+
+		for (int expected : new int[]{4, 1, 0, 2, 3, 5})
+			assertEquals(expected, buckets.poll());
+	}
+
+	@Test
+	void boundsItsRangeToMaxLevels() {
+		assertTrue(PriorityBuckets.fits(0, PriorityBuckets.MAX_LEVELS - 1));
+		assertFalse(PriorityBuckets.fits(0, PriorityBuckets.MAX_LEVELS));
+		assertTrue(PriorityBuckets.fits(-10, -10));
+		assertFalse(PriorityBuckets.fits(1, 0));
+		assertFalse(PriorityBuckets.fits(Integer.MIN_VALUE, Integer.MAX_VALUE));
+		assertTrue(PriorityBuckets.fits(Integer.MAX_VALUE - PriorityBuckets.MAX_LEVELS + 1,
+			Integer.MAX_VALUE));
+
+		int[] priorities = {-5, -5 + PriorityBuckets.MAX_LEVELS - 1, -6,
+			-5 + PriorityBuckets.MAX_LEVELS};
+		ProcessTable table = table(priorities);
+		PriorityBuckets buckets = new PriorityBuckets(table, -5, -5 + PriorityBuckets.MAX_LEVELS - 1);
+
+		assertTrue(buckets.accepts(priorities[0]));
+		assertTrue(buckets.accepts(priorities[1]));
+		assertFalse(buckets.accepts(priorities[2]));
+		assertFalse(buckets.accepts(priorities[3]));
+
+		buckets.add(1);
+		buckets.add(0);
+		assertEquals(0, buckets.poll());
+		assertEquals(1, buckets.poll());
+
+		assertThrows(IllegalArgumentException.class, () -> buckets.add(2));
+		assertThrows(IllegalArgumentException.class, () -> buckets.add(3));
+		assertThrows(IllegalArgumentException.class,
+			() -> new PriorityBuckets(table, 0, PriorityBuckets.MAX_LEVELS));
+	}
+
+	/**
+	 * Creates a table holding one process per priority, in order.
+	 *
+	 * @param priorities the priorities of the processes.
+	 * @return the table.
+	 */
+	private static ProcessTable table(int[] priorities) {
+		ProcessTable table = new ProcessTable(priorities.length);
+		for (int i = 0; i < priorities.length; i++)
+			table.add(i + 1, 0, 1, priorities[i]);
+
+		return table;
+	}
+}
@@ -0,0 +1,104 @@
+package com.zhunio.process.schedule;
+
+import com.zhunio.process.queue.ReadyQueue;
+import com.zhunio.process.schedule.algorithm.P_PL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Checks that P_PL with aging schedules a job pool the same whichever way
+ * it is loaded. Aging lowers priorities down to the lowest priority of the
+ * job pool, which the job pool below only reaches on its last line, so a
+ * load mode seeing part of the job pool at a time would age differently.
+ */
+class AgingLoadModesTest {
+	/* Number of processes of the job pool */
+	private static final int PROCESSES = 20_000;
+
+	@TempDir
+	Path directory;
+
+	/* Text job pool, lowest priority on its last line */
+	private String text;
+
+	/* The same job pool, gzip compressed */
+	private String compressed;
+
+	/* The same job pool, binary */
+	private String binary;
+
+	@BeforeEach
+	void writeJobPools() throws Exception {
+		text = directory.resolve("pool.data").toString();
+		compressed = directory.resolve("pool.data.gz").toString();
+		binary = directory.resolve("pool.bin").toString();
+
+		JobPoolGenerator generator = new JobPoolGenerator();
+		generator.setSeed(5);
+		generator.setProcessNo(PROCESSES);
+		generator.setPriorities(2, 100);
+		generator.setRate(0.11);
+		generator.generate(text);
+
+		// Give the last process the lowest priority
+		List<String> lines = Files.readAllLines(Path.of(text));
+		String last = lines.get(lines.size() - 1);
+		lines.set(lines.size() - 1, last.substring(0, last.lastIndexOf(' ')) + " 1");
+		Files.write(Path.of(text), lines);
+
+		try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(Path.of(compressed)))) {
+			Files.copy(Path.of(text), out);
+		}
+
+		JobPoolConverter.convert(text, binary);
+	}
+
+	@Test
+	void everyLoadModeAgesTheSame() throws Exception {
+		List<String> expected = schedule(new JobScheduler(text).loadJobPool());
+
+		assertEquals(expected, schedule(new ParallelJobPoolParser(text,
+			ForkJoinPool.commonPool()).parse()), "parallel parse");
+		assertEquals(expected, schedule(new JobScheduler(compressed).loadJobPool()), "gzip");
+		assertEquals(expected, schedule(new JobScheduler(binary).loadJobPool()), "binary");
+		assertEquals(expected, schedule(new JobScheduler(binary).streamJobPool()), "binary stream");
+		assertEquals(expected, schedule(new JobScheduler(binary).sortJobPool()), "binary sort");
+	}
+
+	@Test
+	void streamedTextJobPoolsRefuseAging() throws Exception {
+		for (String jobPool : new String[]{text, compressed}) {
+			ReadyQueue streamed = new JobScheduler(jobPool).streamJobPool();
+			ReadyQueue sorted = new JobScheduler(jobPool).sortJobPool();
+
+			assertThrows(IllegalArgumentException.class, () -> schedule(streamed), jobPool);
+			assertThrows(IllegalArgumentException.class, () -> schedule(sorted), jobPool);
+		}
+	}
+
+	/**
+	 * Schedules a ready queue with P_PL aging every 5 time units by 1, and
+	 * closes it.
+	 *
+	 * @param readyQueue the ready queue.
+	 * @return the entries of the Gantt chart.
+	 */
+	private static List<String> schedule(ReadyQueue readyQueue) {
+		try (ReadyQueue queue = readyQueue) {
+			return new P_PL(5, 1).run(queue);
+		}
+	}
+}
@@ -0,0 +1,194 @@
+package com.zhunio.process.schedule;
+
+import com.zhunio.process.ProcessTable;
+import com.zhunio.process.queue.StreamingQueue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Checks the runs and merge passes of the {@code ExternalJobPoolSorter} with
+ * runs and a fan-in small enough that a job pool of a thousand processes
+ * takes several passes.
+ */
+class ExternalJobPoolSorterTest {
+	/* Number of processes of the job pool */
+	private static final int PROCESSES = 1000;
+
+	/* Processes per run, so the job pool spans 143 runs */
+	private static final int RUN_SIZE = 7;
+
+	/* Runs merged at once, so 143 runs take 4 passes before the last merge */
+	private static final int FAN_IN = 3;
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void sortsAcrossRunsAndMergePassesKeepingFileOrder() throws Exception {
+		int[][] processes = writeJobPool(PROCESSES);
+		Path runs = Files.createDirectory(directory.resolve("runs"));
+
+		ProcessTable table = new ProcessTable(PROCESSES);
+		StreamingQueue queue = new StreamingQueue(table);
+		ExternalJobPoolSorter sorter = new ExternalJobPoolSorter(runs, RUN_SIZE, FAN_IN);
+
+		try (JobPoolParser parser = parser()) {
+			sorter.sort(parser, queue);
+		}
+		queue.finish();
+
+		// 143 spilled runs, then 48, 16, 6 and 2 merged ones
+		assertEquals(143 + 48 + 16 + 6 + 2, sorter.getRunsWritten());
+		assertEquals(0, count(runs));
+
+		// Sorted by arrive time, ties in file order
+		List<int[]> sorted = new ArrayList<>();
+		while (!queue.isEmpty()) {
+			int handle = queue.poll();
+			sorted.add(new int[]{table.getProcessID(handle), table.getArriveTime(handle),
+				table.getBurstTime(handle), table.getPriority(handle)});
+		}
+
+		assertEquals(PROCESSES, sorted.size());
+		for (int i = 0; i < PROCESSES; i++) {
+			int[] process = sorted.get(i);
+			int[] original = processes[process[0] - 1];
+			assertEquals(original[0], process[1]);
+			assertEquals(original[1], process[2]);
+			assertEquals(original[2], process[3]);
+
+			if (i > 0) {
+				int[] previous = sorted.get(i - 1);
+				assertTrue(previous[1] < process[1]
+					|| (previous[1] == process[1] && previous[0] < process[0]),
+					"P" + previous[0] + " before P" + process[0]);
+			}
+		}
+	}
+
+	@Test
+	void singleRunNeverTouchesTheDisk() throws Exception {
+		writeJobPool(RUN_SIZE);
+		Path runs = Files.createDirectory(directory.resolve("runs"));
+
+		StreamingQueue queue = new StreamingQueue(new ProcessTable(RUN_SIZE));
+		ExternalJobPoolSorter sorter = new ExternalJobPoolSorter(runs, RUN_SIZE, FAN_IN);
+
+		try (JobPoolParser parser = parser()) {
+			sorter.sort(parser, queue);
+		}
+
+		assertEquals(0, sorter.getRunsWritten());
+	}
+
+	@Test
+	void removesRunFilesWhenTheJobPoolIsInvalid() throws Exception {
+		writeJobPool(PROCESSES);
+		Path runs = Files.createDirectory(directory.resolve("runs"));
+
+		// The count is only checked once every run has been spilled
+		List<String> lines = Files.readAllLines(directory.resolve("pool.data"));
+		lines.set(0, String.valueOf(PROCESSES + 1));
+		Files.write(directory.resolve("pool.data"), lines);
+
+		ExternalJobPoolSorter sorter = new ExternalJobPoolSorter(runs, RUN_SIZE, FAN_IN);
+		try (JobPoolParser parser = parser()) {
+			assertThrows(Exception.class, () -> sorter.sort(parser,
+				new StreamingQueue(new ProcessTable(16))));
+		}
+
+		// Every run but the last, still in memory, was spilled
+		assertEquals(142, sorter.getRunsWritten());
+		assertEquals(0, count(runs));
+	}
+
+	@Test
+	void removesRunFilesWhenTheMergeFails() throws Exception {
+		writeJobPool(PROCESSES * 3);
+		Path runs = Files.createDirectory(directory.resolve("runs"));
+
+		// A closed queue refuses the first batch of merged processes
+		StreamingQueue queue = new StreamingQueue(new ProcessTable(16));
+		queue.close();
+
+		ExternalJobPoolSorter sorter = new ExternalJobPoolSorter(runs, RUN_SIZE, FAN_IN);
+		try (JobPoolParser parser = parser()) {
+			assertThrows(Exception.class, () -> sorter.sort(parser, queue));
+		}
+
+		assertTrue(sorter.getRunsWritten() > 3 * 143);
+		assertEquals(0, count(runs));
+	}
+
+	@Test
+	void refusesInvalidRunSizeOrFanIn() {
+		assertThrows(IllegalArgumentException.class,
+			() -> new ExternalJobPoolSorter(directory, 0, FAN_IN));
+		assertThrows(IllegalArgumentException.class,
+			() -> new ExternalJobPoolSorter(directory, RUN_SIZE, 1));
+	}
+
+	/**
+	 * Writes a job pool whose arrive times are drawn among a few values, so
+	 * many processes share one.
+	 *
+	 * @param processNo the number of processes.
+	 * @return the arrive time, burst time and priority of every process.
+	 * @throws Exception if the job pool cannot be written.
+	 */
+	private int[][] writeJobPool(int processNo) throws Exception {
+		SplittableRandom random = new SplittableRandom(9);
+		int[][] processes = new int[processNo][];
+
+		List<String> lines = new ArrayList<>();
+		lines.add(String.valueOf(processNo));
+		lines.add("1 4");
+		for (int i = 0; i < processNo; i++) {
+			processes[i] = new int[]{random.nextInt(50), 1 + random.nextInt(20), random.nextInt(10)};
+			lines.add(processes[i][0] + " " + processes[i][1] + " " + processes[i][2]);
+		}
+
+		Files.write(directory.resolve("pool.data"), lines);
+
+		return processes;
+	}
+
+	/**
+	 * Opens the job pool and reads its header.
+	 *
+	 * @return the parser, about to read the processes.
+	 * @throws Exception if the header is invalid.
+	 */
+	private JobPoolParser parser() throws Exception {
+		JobPoolParser parser = new JobPoolParser(directory.resolve("pool.data").toString());
+		parser.readHeader();
+
+		return parser;
+	}
+
+	/**
+	 * Counts the files of a directory.
+	 *
+	 * @param runs the directory.
+	 * @return the number of files.
+	 * @throws Exception if the directory cannot be listed.
+	 */
+	private static long count(Path runs) throws Exception {
+		try (Stream<Path> files = Files.list(runs)) {
+			return files.count();
+		}
+	}
+}
@@ -0,0 +1,256 @@
+package com.zhunio.process.schedule;
+
+import com.zhunio.process.ProcessTable;
+import com.zhunio.process.queue.ReadyQueue;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Checks that the sequential and the parallel {@code JobPoolParser} decode
+ * job pools as the {@code Scanner} based parser did, and refuse the same
+ * malformed ones.
+ */
+class JobPoolParserTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void parsesHeaderAndProcessesInFileOrder() throws Exception {
+		for (boolean parallel : new boolean[]{false, true}) {
+			ReadyQueue readyQueue = parse("3\n1 2\n0 4 2\n1 3 3\n2 2 4\n", parallel);
+
+			assertTrue(readyQueue.isPreemptive());
+			assertEquals(2, readyQueue.getQuantumTime());
+			assertProcesses(readyQueue, new int[][]{{1, 0, 4, 2}, {2, 1, 3, 3}, {3, 2, 2, 4}});
+		}
+	}
+
+	@Test
+	void parsesNegativeNumbers() throws Exception {
+		for (boolean parallel : new boolean[]{false, true}) {
+			ReadyQueue readyQueue = parse("2\n0 -1\n-5 3 -2\n0 4 -2147483648\n", parallel);
+
+			assertFalse(readyQueue.isPreemptive());
+			assertEquals(-1, readyQueue.getQuantumTime());
+			assertProcesses(readyQueue, new int[][]{{1, -5, 3, -2}, {2, 0, 4, Integer.MIN_VALUE}});
+		}
+	}
+
+	@Test
+	void acceptsCrlfLineEndings() throws Exception {
+		for (boolean parallel : new boolean[]{false, true})
+			assertProcesses(parse("2\r\n1 2\r\n0 4 2\r\n1 3 3\r\n", parallel),
+				new int[][]{{1, 0, 4, 2}, {2, 1, 3, 3}});
+	}
+
+	@Test
+	void acceptsMissingTrailingNewline() throws Exception {
+		for (boolean parallel : new boolean[]{false, true})
+			assertProcesses(parse("2\n1 2\n0 4 2\n1 3 3", parallel),
+				new int[][]{{1, 0, 4, 2}, {2, 1, 3, 3}});
+	}
+
+	@Test
+	void ignoresExtraTokens() throws Exception {
+		for (boolean parallel : new boolean[]{false, true}) {
+			ReadyQueue readyQueue = parse("2 processes\n1 2 x\n0 4 2 7\n1 3 3 junk 2147483648\n",
+				parallel);
+
+			assertEquals(2, readyQueue.getQuantumTime());
+			assertProcesses(readyQueue, new int[][]{{1, 0, 4, 2}, {2, 1, 3, 3}});
+		}
+	}
+
+	@Test
+	void refusesCountDifferentFromProcesses() {
+		for (boolean parallel : new boolean[]{false, true}) {
+			assertError("Number of processes number: 3, does not equal actual number"
+				+ " of processes in the ready queue: 2", "3\n1 2\n0 4 2\n1 3 3\n", parallel);
+			assertError("Number of processes number: 1, does not equal actual number"
+				+ " of processes in the ready queue: 2", "1\n1 2\n0 4 2\n1 3 3\n", parallel);
+		}
+	}
+
+	@Test
+	void refusesMissingAttributes() {
+		for (boolean parallel : new boolean[]{false, true}) {
+			assertError("Missing process attributes on disk file: [1, 3] at byte 12",
+				"2\n1 2\n0 4 2\n1 3\n", parallel);
+			assertError("Missing process attributes on disk file: [] at byte 12",
+				"2\n1 2\n0 4 2\n\n1 3 3\n", parallel);
+		}
+
+		assertError("No valid number of options on disk file: [1, 0]", "1\n1\n0 4 2\n", false);
+		assertError("No valid number of processes on disk file", "\n1 2\n0 4 2\n", false);
+	}
+
+	@Test
+	void refusesZeroQuantum() {
+		assertError("Invalid quantum time: 0", "1\n1 0\n0 4 2\n", false);
+	}
+
+	@Test
+	void refusesNegativeCount() {
+		assertError("No valid number of processes: -1", "-1\n1 2\n", false);
+	}
+
+	@Test
+	void refusesIntOverflow() {
+		for (boolean parallel : new boolean[]{false, true}) {
+			assertThrows(Exception.class, () -> parse("1\n1 2\n2147483648 4 2\n", parallel));
+			assertThrows(Exception.class, () -> parse("1\n1 2\n0 4 -2147483649\n", parallel));
+			assertThrows(Exception.class, () -> parse("1\n1 2\n0 99999999999999999999 2\n",
+				parallel));
+		}
+
+		assertTrue(assertThrows(Exception.class, () -> parse("2147483648\n1 2\n", false))
+			.getMessage().startsWith("Invalid integer on disk file after values: []"));
+	}
+
+	@Test
+	void refusesValuesThatAreNotIntegers() {
+		for (boolean parallel : new boolean[]{false, true}) {
+			assertThrows(Exception.class, () -> parse("1\n1 2\n0 x 2\n", parallel));
+			assertThrows(Exception.class, () -> parse("1\n1 2\n0 4x 2\n", parallel));
+			assertThrows(Exception.class, () -> parse("1\n1 2\n0 - 2\n", parallel));
+		}
+
+		assertError("Invalid integer on disk file after values: [1] at byte 4",
+			"1\n1 y\n0 4 2\n", false);
+	}
+
+	@Test
+	void parsesGzipCompressedJobPools() throws Exception {
+		byte[] compressed = gzip("2\n1 2\n0 4 2\n1 3 3\n");
+
+		// Recognized by the extension, and by the magic bytes without it
+		for (String name : new String[]{"input.data.gz", "input.data"}) {
+			Path jobPool = directory.resolve(name);
+			Files.write(jobPool, compressed);
+
+			assertTrue(JobPoolParser.isCompressed(jobPool.toString()));
+			assertProcesses(new JobPoolParser(jobPool.toString()).parse(),
+				new int[][]{{1, 0, 4, 2}, {2, 1, 3, 3}});
+		}
+	}
+
+	@Test
+	void refusesCorruptGzipJobPoolsWithoutLeakingTheFile() throws Exception {
+		assumeTrue(Files.isDirectory(Paths.get("/proc/self/fd")), "needs /proc/self/fd");
+
+		byte[] compressed = gzip("2\n1 2\n0 4 2\n1 3 3\n");
+		byte[] header = Arrays.copyOf(compressed, 5);
+		byte[] body = Arrays.copyOf(compressed, compressed.length - 12);
+		byte[] garbage = Arrays.copyOf(compressed, compressed.length);
+		garbage[2] = 7;
+
+		long open = openFiles();
+
+		for (byte[] contents : new byte[][]{header, body, garbage}) {
+			Path jobPool = directory.resolve("input.data.gz");
+			Files.write(jobPool, contents);
+
+			assertThrows(IOException.class, () -> new JobPoolParser(jobPool.toString()).parse());
+		}
+
+		assertEquals(open, openFiles());
+	}
+
+	/**
+	 * Compresses the contents of a job pool with gzip.
+	 *
+	 * @param contents the contents of the job pool.
+	 * @return the compressed bytes.
+	 * @throws IOException if the contents cannot be compressed.
+	 */
+	private static byte[] gzip(String contents) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		try (OutputStream out = new GZIPOutputStream(bytes)) {
+			out.write(contents.getBytes(StandardCharsets.US_ASCII));
+		}
+
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Counts the files this JVM has open.
+	 *
+	 * @return the number of open file descriptors.
+	 * @throws IOException if they cannot be listed.
+	 */
+	private static long openFiles() throws IOException {
+		try (Stream<Path> descriptors = Files.list(Paths.get("/proc/self/fd"))) {
+			return descriptors.count();
+		}
+	}
+
+	/**
+	 * Writes a job pool and parses it.
+	 *
+	 * @param contents the contents of the job pool.
+	 * @param parallel true to parse it with the parallel parser.
+	 * @return the ready queue.
+	 * @throws Exception if the job pool is invalid.
+	 */
+	private ReadyQueue parse(String contents, boolean parallel) throws Exception {
+		Path jobPool = directory.resolve("input.data");
+		Files.write(jobPool, contents.getBytes(StandardCharsets.US_ASCII));
+
+		return parallel
+			? new ParallelJobPoolParser(jobPool.toString(), ForkJoinPool.commonPool()).parse()
+			: new JobPoolParser(jobPool.toString()).parse();
+	}
+
+	/**
+	 * Checks that parsing a job pool fails with the given message.
+	 *
+	 * @param message  the expected message.
+	 * @param contents the contents of the job pool.
+	 * @param parallel true to parse it with the parallel parser.
+	 */
+	private void assertError(String message, String contents, boolean parallel) {
+		assertEquals(message, assertThrows(Exception.class,
+			() -> parse(contents, parallel)).getMessage());
+	}
+
+	/**
+	 * Checks the processes of a ready queue, in file order.
+	 *
+	 * @param readyQueue the ready queue.
+	 * @param expected   the process ID, arrive time, burst time and priority
+	 *                   of every process.
+	 */
+	private static void assertProcesses(ReadyQueue readyQueue, int[][] expected) {
+		ProcessTable table = readyQueue.getProcessTable();
+		assertEquals(expected.length, table.size());
+
+		for (int handle = 0; handle < expected.length; handle++) {
+			int[] process = expected[handle];
+			assertEquals(process[0], table.getProcessID(handle));
+			assertEquals(process[1], table.getArriveTime(handle));
+			assertEquals(process[2], table.getBurstTime(handle));
+			assertEquals(process[3], table.getPriority(handle));
+		}
+	}
+}
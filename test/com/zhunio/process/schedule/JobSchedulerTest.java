@@ -0,0 +1,100 @@
+package com.zhunio.process.schedule;
+
+import com.zhunio.process.ProcessTable;
+import com.zhunio.process.queue.ReadyQueue;
+import com.zhunio.process.schedule.algorithm.FCFS;
+import com.zhunio.process.schedule.algorithm.P_PL;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Checks that binary job pools are streamed and sorted from their records
+ * through a recycling table, as text job pools are, rather than loaded
+ * whole.
+ */
+class JobSchedulerTest {
+	/* Number of processes of the job pool */
+	private static final int PROCESSES = 50_000;
+
+	@TempDir
+	Path directory;
+
+	/* Binary job pool, sorted by arrive time */
+	private String binary;
+
+	@BeforeEach
+	void writeJobPool() throws Exception {
+		String text = directory.resolve("pool.data").toString();
+		binary = directory.resolve("pool.bin").toString();
+
+		JobPoolGenerator generator = new JobPoolGenerator();
+		generator.setSeed(8);
+		generator.setProcessNo(PROCESSES);
+		generator.setPriorities(0, 40);
+		generator.generate(text);
+
+		JobPoolConverter.convert(text, binary);
+	}
+
+	@Test
+	void binaryJobPoolsStreamThroughARecyclingTable() throws Exception {
+		List<String> expected = new P_PL().run(new JobScheduler(binary).loadJobPool());
+
+		for (boolean sort : new boolean[]{false, true}) {
+			try (ReadyQueue readyQueue = sort ? new JobScheduler(binary).sortJobPool()
+				: new JobScheduler(binary).streamJobPool()) {
+				ProcessTable table = readyQueue.getProcessTable();
+
+				assertTrue(table.isRecycling());
+				assertTrue(table.knowsPriorityBounds());
+				assertEquals(0, table.getMinPriority());
+				assertEquals(40, table.getMaxPriority());
+
+				assertEquals(expected, new P_PL().run(readyQueue), "sort " + sort);
+
+				// Only the processes alive at once ever took a row
+				assertTrue(table.rows() < PROCESSES / 10, table.rows() + " rows");
+			}
+		}
+	}
+
+	@Test
+	void unsortedBinaryJobPoolsAreSortedButNotStreamed() throws Exception {
+		String text = directory.resolve("unsorted.data").toString();
+		String unsorted = directory.resolve("unsorted.bin").toString();
+		Files.write(Path.of(text), Arrays.asList("3", "0 1", "5 2 1", "0 3 1", "2 1 1"));
+		JobPoolConverter.convert(text, unsorted);
+
+		assertEquals(Arrays.asList("0 3 P2", "3 4 P3", "5 7 P1"),
+			new FCFS().run(new JobScheduler(unsorted).sortJobPool()));
+
+		try (ReadyQueue readyQueue = new JobScheduler(unsorted).streamJobPool()) {
+			IllegalStateException error = assertThrows(IllegalStateException.class,
+				() -> new FCFS().run(readyQueue));
+			assertEquals("Job pool is not sorted by arrive time at process P2", error.getMessage());
+		}
+	}
+
+	@Test
+	void streamedTextJobPoolsDoNotKnowTheirPriorities() throws Exception {
+		String text = directory.resolve("pool.data").toString();
+
+		try (ReadyQueue readyQueue = new JobScheduler(text).streamJobPool()) {
+			assertTrue(readyQueue.getProcessTable().isRecycling());
+			assertFalse(readyQueue.getProcessTable().knowsPriorityBounds());
+		}
+	}
+}
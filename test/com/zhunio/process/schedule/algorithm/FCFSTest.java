@@ -0,0 +1,55 @@
+package com.zhunio.process.schedule.algorithm;
+
+import com.zhunio.process.schedule.JobScheduler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Checks the Gantt charts of {@code FCFS}.
+ */
+class FCFSTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void processesStartNoEarlierThanTheirArrival() throws Exception {
+		assertEquals(Arrays.asList("3 11 P1", "11 22 P2"),
+			schedule("2", "1 2", "3 8 1", "6 11 0"));
+	}
+
+	@Test
+	void cpuIdlesBetweenArrivals() throws Exception {
+		assertEquals(Arrays.asList("0 2 P1", "5 8 P2", "8 9 P3"),
+			schedule("3", "0 1", "0 2 1", "5 3 1", "6 1 1"));
+	}
+
+	@Test
+	void processesArrivingTogetherRunInTheirOrder() throws Exception {
+		assertEquals(Arrays.asList("0 4 P1", "4 7 P2", "7 9 P3"),
+			schedule("3", "0 1", "0 4 3", "0 3 1", "0 2 2"));
+	}
+
+	/**
+	 * Writes a job pool and schedules it with {@code FCFS}.
+	 *
+	 * @param lines the lines of the job pool.
+	 * @return the entries of the Gantt chart.
+	 * @throws Exception if the job pool cannot be loaded.
+	 */
+	private List<String> schedule(String... lines) throws Exception {
+		Path jobPool = directory.resolve("input.data");
+		Files.write(jobPool, Arrays.asList(lines));
+
+		return new FCFS().run(new JobScheduler(jobPool.toString()).loadJobPool());
+	}
+}
@@ -0,0 +1,195 @@
+package com.zhunio.process.schedule.algorithm;
+
+import com.zhunio.process.PCB;
+import com.zhunio.process.ProcessTable;
+import com.zhunio.process.queue.PriorityBuckets;
+import com.zhunio.process.queue.ReadyQueue;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Checks the queues P_PL keeps its waiting processes in against a plain
+ * list searched in full at every selection.
+ */
+class P_PLTest {
+
+	@Test
+	void agingQueueSelectsTheLowestAgedPriority() {
+		checkAging(3, 2, 0, 20, 1, Integer.MIN_VALUE);
+		checkAging(1, 1, 5, 9, 2, Integer.MIN_VALUE);
+		checkAging(7, 3, -4, 60, 3, Integer.MIN_VALUE);
+	}
+
+	@Test
+	void agingQueueRebasesKeysThatNoLongerFit() {
+		// Keys of new processes grow past an int after a few epochs
+		checkAging(2, 1 << 29, 0, Integer.MAX_VALUE, 4, Integer.MIN_VALUE);
+		checkAging(5, Integer.MAX_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE, 5, Integer.MIN_VALUE);
+	}
+
+	@Test
+	void agingQueueRenumbersAcrossTheFloorWhenTheSequenceWraps() {
+		checkAging(3, 2, 0, 20, 6, Integer.MAX_VALUE - 5000);
+	}
+
+	@Test
+	void arrivedQueueRenumbersWhenTheSequenceWraps() {
+		ProcessTable table = new ProcessTable(6);
+		int[] priorities = {3, 1, 3, 2, 1, 3};
+		for (int i = 0; i < priorities.length; i++)
+			table.add(i + 1, 0, 1, priorities[i]);
+
+		P_PL.ArrivedQueue queue = new P_PL().new ArrivedQueue(table, false);
+		queue.sequence = Integer.MAX_VALUE - 2;
+
+		// The fourth process wraps the sequence, renumbering the first three
+		for (int process = 0; process < priorities.length; process++)
+			queue.requeue(process, 0);
+
+		assertEquals(Integer.MIN_VALUE + priorities.length, queue.sequence);
+		for (int expected : new int[]{1, 4, 3, 0, 2, 5})
+			assertEquals(expected, queue.poll());
+		assertEquals(ProcessTable.NO_PROCESS, queue.poll());
+	}
+
+	@Test
+	void bucketsAndHeapSelectTheSameProcesses() {
+		SplittableRandom random = new SplittableRandom(7);
+		ProcessTable table = new ProcessTable(300);
+		for (int i = 0; i < 300; i++)
+			table.add(i + 1, 0, 1, random.nextInt(-20, 140));
+
+		P_PL.ArrivedQueue buckets = new P_PL().new ArrivedQueue(table, true);
+		P_PL.ArrivedQueue heap = new P_PL().new ArrivedQueue(table, false);
+		boolean[] queued = new boolean[300];
+
+		for (int operation = 0; operation < 20_000; operation++) {
+			int process = random.nextInt(300);
+
+			// Late in the run, a priority out of the bucketed range shows up
+			boolean outOfRange = operation == 15_000;
+			if (outOfRange) {
+				while (queued[process])
+					process = (process + 1) % 300;
+				table.setPriority(process, 1000);
+			}
+
+			if (!queued[process] && (outOfRange || random.nextInt(3) > 0)) {
+				buckets.requeue(process, 0);
+				heap.requeue(process, 0);
+				queued[process] = true;
+				continue;
+			}
+
+			int polled = heap.poll();
+			assertEquals(polled, buckets.poll(), "operation " + operation);
+			assertEquals(heap.size(), buckets.size());
+
+			if (polled != ProcessTable.NO_PROCESS)
+				queued[polled] = false;
+		}
+	}
+
+	@Test
+	void bucketsAndHeapScheduleTheSameChart() {
+		SplittableRandom random = new SplittableRandom(9);
+		int[][] processes = new int[5000][];
+		int arriveTime = 0;
+		for (int i = 0; i < processes.length; i++) {
+			arriveTime += random.nextInt(4);
+			processes[i] = new int[]{arriveTime, 1 + random.nextInt(12),
+				random.nextInt(PriorityBuckets.MAX_LEVELS)};
+		}
+
+		// The same order of priorities over a range too wide for buckets
+		ReadyQueue bucketed = new ReadyQueue(true, 3);
+		ReadyQueue wide = new ReadyQueue(true, 3);
+		for (int i = 0; i < processes.length; i++) {
+			int[] process = processes[i];
+			bucketed.add(new PCB(i + 1, process[0], process[1], process[2]));
+			wide.add(new PCB(i + 1, process[0], process[1], 2 * process[2]));
+		}
+
+		assertTrue(PriorityBuckets.fits(bucketed.getProcessTable().getMinPriority(),
+			bucketed.getProcessTable().getMaxPriority()));
+		assertFalse(PriorityBuckets.fits(wide.getProcessTable().getMinPriority(),
+			wide.getProcessTable().getMaxPriority()));
+
+		assertEquals(new P_PL().run(wide), new P_PL().run(bucketed));
+	}
+
+	/**
+	 * Requeues, ages and polls random processes through an
+	 * {@code AgingQueue}, checking every selection against the process with
+	 * the lowest aged priority and, among those, the earliest entry. The
+	 * queue renumbers its processes if the sequence runs out.
+	 *
+	 * @param interval    the aging interval.
+	 * @param step        the aging step.
+	 * @param minPriority the lowest priority.
+	 * @param maxPriority the highest priority.
+	 * @param seed        the seed of the random operations.
+	 * @param sequence    the first sequence number of the queue.
+	 */
+	private static void checkAging(int interval, int step, int minPriority, int maxPriority,
+								   long seed, int sequence) {
+		SplittableRandom random = new SplittableRandom(seed);
+		ProcessTable table = new ProcessTable(200);
+		for (int i = 0; i < 200; i++)
+			table.add(i + 1, 0, 1, i < 2 ? (i == 0 ? minPriority : maxPriority)
+				: (int) (minPriority + random.nextLong((long) maxPriority - minPriority + 1)));
+
+		P_PL.AgingQueue queue = new P_PL(interval, step).new AgingQueue(table, interval, step);
+		queue.sequence = sequence;
+
+		// Waiting processes as {handle, entry time}, in order of entry
+		List<int[]> waiting = new ArrayList<>();
+		boolean[] queued = new boolean[200];
+		int now = -10;
+
+		for (int operation = 0; operation < 20_000; operation++) {
+			now += random.nextInt(4);
+			int process = random.nextInt(200);
+
+			if (!queued[process] && random.nextInt(3) > 0) {
+				queue.requeue(process, now);
+				waiting.add(new int[]{process, now});
+				queued[process] = true;
+				continue;
+			}
+
+			queue.age(now);
+
+			// Search the waiting processes in full
+			int lowest = -1;
+			long lowestPriority = Long.MAX_VALUE;
+			for (int i = 0; i < waiting.size(); i++) {
+				int[] entry = waiting.get(i);
+				long epochs = Math.floorDiv(now, interval) - Math.floorDiv(entry[1], interval);
+				long priority = Math.max(Math.min(table.getPriority(entry[0]), minPriority),
+					table.getPriority(entry[0]) - epochs * step);
+
+				if (priority < lowestPriority) {
+					lowest = i;
+					lowestPriority = priority;
+				}
+			}
+
+			int expected = lowest < 0 ? ProcessTable.NO_PROCESS : waiting.remove(lowest)[0];
+			assertEquals(expected, queue.poll(), "operation " + operation);
+			assertEquals(waiting.size(), queue.size());
+
+			if (expected != ProcessTable.NO_PROCESS)
+				queued[expected] = false;
+		}
+	}
+}
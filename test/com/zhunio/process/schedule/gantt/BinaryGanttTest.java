@@ -0,0 +1,159 @@
+package com.zhunio.process.schedule.gantt;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Checks that a Gantt chart written by {@code BinaryGanttSink} reads back
+ * through {@code BinaryGanttReader} as it was emitted, and converts through
+ * {@code GanttConverter} into the same bytes {@code FileGanttSink} writes.
+ */
+class BinaryGanttTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void roundTripsEdgeEntries() throws Exception {
+		int[][] entries = {
+			{0, 4, 1},
+			// Starts before the previous entry ends
+			{2, 3, 2},
+			{-10, -5, -3},
+			{7, 7, Integer.MAX_VALUE},
+			{8, 9, Integer.MIN_VALUE},
+			{Integer.MIN_VALUE, Integer.MAX_VALUE, 0},
+			{Integer.MAX_VALUE, Integer.MAX_VALUE, 123_456_789},
+			{Integer.MIN_VALUE, Integer.MIN_VALUE + 1, -1}
+		};
+
+		assertRoundTrip("P_PL", 3, entries);
+	}
+
+	@Test
+	void roundTripsChartsLargerThanTheBuffers() throws Exception {
+		SplittableRandom random = new SplittableRandom(17);
+		int[][] entries = new int[200_000][];
+
+		int time = -1000;
+		for (int i = 0; i < entries.length; i++) {
+			// Mostly consecutive entries, some overlapping or far apart
+			int start = time + (random.nextInt(100) == 0 ? random.nextInt(-50, 100_000) : 0);
+			int end = start + random.nextInt(random.nextInt(100) == 0 ? 1_000_000 : 8);
+			entries[i] = new int[]{start, end, random.nextInt(10) == 0 ? random.nextInt()
+				: random.nextInt(1, 5000)};
+			time = end;
+		}
+
+		assertRoundTrip("FCFS", -1, entries);
+	}
+
+	@Test
+	void roundTripsEmptyCharts() throws Exception {
+		assertRoundTrip("", 0, new int[0][]);
+	}
+
+	@Test
+	void refusesTruncatedCharts() throws Exception {
+		Path binary = directory.resolve("output.gantt");
+		Path text = directory.resolve("output.data");
+		write(binary, "P_PL", 2, new int[][]{{0, 2, 1}, {2, 300, 100_000}});
+		byte[] chart = Files.readAllBytes(binary);
+
+		// Cut after the duration of the last entry, before its process
+		Files.write(binary, Arrays.copyOf(chart, chart.length - 3));
+		try (BinaryGanttReader reader = new BinaryGanttReader(binary)) {
+			assertTrue(reader.next());
+			Exception error = assertThrows(Exception.class, reader::next);
+			assertEquals("Truncated binary Gantt chart entry at byte " + (chart.length - 3),
+				error.getMessage());
+		}
+
+		Files.write(text, new byte[]{'x'});
+		assertThrows(Exception.class, () -> GanttConverter.convert(binary.toString(),
+			text.toString()));
+		assertFalse(Files.exists(text));
+
+		// Cut inside the header
+		for (int length : new int[]{0, 3, 4, 6, 10}) {
+			Files.write(binary, Arrays.copyOf(chart, length));
+			Exception error = assertThrows(Exception.class, () -> new BinaryGanttReader(binary));
+			assertEquals(length < 4 ? "Not a binary Gantt chart" : "Truncated binary Gantt chart header",
+				error.getMessage());
+		}
+
+		Files.write(binary, "0 2 P1\n".getBytes());
+		assertEquals("Not a binary Gantt chart",
+			assertThrows(Exception.class, () -> new BinaryGanttReader(binary)).getMessage());
+	}
+
+	/**
+	 * Writes entries as a binary and as a text Gantt chart, then checks that
+	 * the binary one reads back as the entries and converts into the text
+	 * one byte for byte.
+	 *
+	 * @param algorithm   the name of the schedule algorithm.
+	 * @param quantumTime the quantum time.
+	 * @param entries     the start, end and process ID of every entry.
+	 * @throws Exception if a chart cannot be written or read.
+	 */
+	private void assertRoundTrip(String algorithm, int quantumTime, int[][] entries)
+		throws Exception {
+		Path binary = directory.resolve("output.gantt");
+		Path expected = directory.resolve("expected.data");
+		Path converted = directory.resolve("output.data");
+
+		write(binary, algorithm, quantumTime, entries);
+		try (GanttSink sink = new FileGanttSink(expected.toFile())) {
+			for (int[] entry : entries)
+				sink.emit(entry[0], entry[1], entry[2]);
+		}
+
+		try (BinaryGanttReader reader = new BinaryGanttReader(binary)) {
+			assertEquals(algorithm, reader.getAlgorithm());
+			assertEquals(quantumTime, reader.getQuantumTime());
+
+			for (int[] entry : entries) {
+				assertTrue(reader.next());
+				assertArrayEquals(entry, new int[]{reader.getStart(), reader.getEnd(),
+					reader.getProcessID()});
+			}
+
+			assertFalse(reader.next());
+		}
+
+		GanttConverter.convert(binary.toString(), converted.toString());
+		assertArrayEquals(Files.readAllBytes(expected), Files.readAllBytes(converted));
+	}
+
+	/**
+	 * Writes entries as a binary Gantt chart.
+	 *
+	 * @param binary      the binary Gantt chart.
+	 * @param algorithm   the name of the schedule algorithm.
+	 * @param quantumTime the quantum time.
+	 * @param entries     the start, end and process ID of every entry.
+	 * @throws IOException if the chart cannot be written.
+	 */
+	private static void write(Path binary, String algorithm, int quantumTime, int[][] entries)
+		throws IOException {
+		try (GanttSink sink = new BinaryGanttSink(binary.toFile(), algorithm, quantumTime)) {
+			for (int[] entry : entries)
+				sink.emit(entry[0], entry[1], entry[2]);
+		}
+	}
+}
@@ -0,0 +1,225 @@
+package com.zhunio.process.schedule.gantt;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Checks the index written by {@code IndexingGanttSink} byte for byte, and
+ * the queries {@code GanttIndex} and {@code GanttQuery} answer from it.
+ */
+class GanttIndexTest {
+	/* Entries of the chart, as start, end and process ID */
+	private static final int[][] ENTRIES = {
+		{0, 3, 2},
+		{3, 5, 1},
+		{5, 5, 7},
+		{5, 9, 2},
+		// The CPU idles from 9 to 12
+		{12, 15, 1},
+		{15, 16, 2000},
+		{16, 20, 1}
+	};
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void findsTheEntryRunningAtWindowEdges() throws Exception {
+		try (GanttIndex index = new GanttIndex(write(ENTRIES))) {
+			assertEquals(7, index.size());
+			assertEquals(4, index.getProcessCount());
+
+			int[] times = {Integer.MIN_VALUE, -1, 0, 2, 3, 4, 5, 8, 9, 11, 12, 15, 16, 19, 20,
+				Integer.MAX_VALUE};
+			long[] expected = {-1, -1, 0, 0, 1, 1, 3, 3, -1, -1, 4, 5, 6, 6, -1, -1};
+
+			for (int i = 0; i < times.length; i++)
+				assertEquals(expected[i], index.find(times[i]), "time " + times[i]);
+
+			for (int entry = 0; entry < ENTRIES.length; entry++)
+				assertArrayEquals(ENTRIES[entry], new int[]{index.getStart(entry),
+					index.getEnd(entry), index.getProcessID(entry)});
+
+			assertThrows(IndexOutOfBoundsException.class, () -> index.getStart(7));
+			assertThrows(IndexOutOfBoundsException.class, () -> index.getEnd(-1));
+		}
+	}
+
+	@Test
+	void findsTheEntriesOfAProcess() throws Exception {
+		try (GanttIndex index = new GanttIndex(write(ENTRIES))) {
+			assertArrayEquals(new long[]{1, 4, 6}, index.getEntries(1));
+			assertArrayEquals(new long[]{0, 3}, index.getEntries(2));
+			assertArrayEquals(new long[]{2}, index.getEntries(7));
+			assertArrayEquals(new long[]{5}, index.getEntries(2000));
+
+			for (int unknown : new int[]{Integer.MIN_VALUE, 0, 3, 1999, Integer.MAX_VALUE})
+				assertArrayEquals(new long[0], index.getEntries(unknown));
+		}
+	}
+
+	@Test
+	void answersQueriesOnEmptyCharts() throws Exception {
+		try (GanttIndex index = new GanttIndex(write(new int[0][]))) {
+			assertEquals(0, index.size());
+			assertEquals(0, index.getProcessCount());
+			assertEquals(-1, index.find(0));
+			assertArrayEquals(new long[0], index.getEntries(1));
+			assertThrows(IndexOutOfBoundsException.class, () -> index.getStart(0));
+		}
+
+		assertEquals(Collections.singletonList(directory.resolve("output.index")), files());
+		// The header and the offset past the entries of no process
+		assertEquals(32, Files.size(directory.resolve("output.index")));
+	}
+
+	@Test
+	void writesTheIndexFormat() throws Exception {
+		ByteBuffer index = ByteBuffer.wrap(Files.readAllBytes(write(ENTRIES)))
+			.order(ByteOrder.LITTLE_ENDIAN);
+
+		byte[] magic = new byte[4];
+		index.get(magic);
+		assertArrayEquals(new byte[]{'G', 'N', 'X', '1'}, magic);
+		assertEquals(0, index.getInt());
+		assertEquals(7, index.getLong());
+		assertEquals(4, index.getLong());
+
+		for (int column = 0; column < 3; column++)
+			for (int[] entry : ENTRIES)
+				assertEquals(entry[column], index.getInt());
+
+		for (int processID : new int[]{1, 2, 7, 2000})
+			assertEquals(processID, index.getInt());
+
+		// 7 entries and 4 processes leave the longs unaligned without it
+		assertEquals(0, index.getInt());
+
+		for (long offset : new long[]{0, 3, 5, 6, 7})
+			assertEquals(offset, index.getLong());
+		for (long entry : new long[]{1, 4, 6, 0, 3, 2, 5})
+			assertEquals(entry, index.getLong());
+
+		assertEquals(0, index.remaining());
+
+		// The temporary columns are gone
+		assertEquals(Collections.singletonList(directory.resolve("output.index")), files());
+	}
+
+	@Test
+	void refusesFilesThatAreNotCompleteIndexes() throws Exception {
+		byte[] index = Files.readAllBytes(write(ENTRIES));
+		Path broken = directory.resolve("broken.index");
+
+		Files.write(broken, Arrays.copyOf(index, 20));
+		assertError("Not a Gantt chart index", broken);
+
+		Files.write(broken, "0 3 P2\n3 5 P1\n5 9 P2\n12 15 P1\n".getBytes());
+		assertError("Not a Gantt chart index", broken);
+
+		Files.write(broken, Arrays.copyOf(index, index.length - 8));
+		assertError("Truncated Gantt chart index", broken);
+
+		byte[] negative = index.clone();
+		negative[15] = (byte) 0x80;
+		Files.write(broken, negative);
+		assertError("Invalid Gantt chart index header", broken);
+	}
+
+	@Test
+	void printsQueriesAsTextGanttLines() throws Exception {
+		String index = write(ENTRIES).toString();
+		String separator = System.lineSeparator();
+
+		assertEquals("3 5 P1" + separator + "12 15 P1" + separator + "16 20 P1" + separator,
+			query(index, "P1"));
+		assertEquals("", query(index, "P3"));
+		assertEquals("5 9 P2" + separator, query(index, "5"));
+		assertEquals("idle" + separator, query(index, "10"));
+	}
+
+	/**
+	 * Writes a chart through an {@code IndexingGanttSink}, checking that the
+	 * entries are passed on unchanged.
+	 *
+	 * @param entries the start, end and process ID of every entry.
+	 * @return the index file.
+	 * @throws Exception if the index cannot be written.
+	 */
+	private Path write(int[][] entries) throws Exception {
+		Path index = directory.resolve("output.index");
+		ListGanttSink lines = new ListGanttSink();
+
+		try (GanttSink sink = new IndexingGanttSink(lines, index.toFile())) {
+			for (int[] entry : entries)
+				sink.emit(entry[0], entry[1], entry[2]);
+		}
+
+		assertEquals(entries.length, lines.getLines().size());
+
+		return index;
+	}
+
+	/**
+	 * Lists the files of the temporary directory.
+	 *
+	 * @return the files.
+	 * @throws Exception if the directory cannot be listed.
+	 */
+	private List<Path> files() throws Exception {
+		try (Stream<Path> files = Files.list(directory)) {
+			return files.collect(Collectors.toList());
+		}
+	}
+
+	/**
+	 * Checks that opening an index fails with the given message.
+	 *
+	 * @param message the expected message.
+	 * @param index   the index file.
+	 */
+	private static void assertError(String message, Path index) {
+		assertEquals(message, assertThrows(Exception.class, () -> new GanttIndex(index))
+			.getMessage());
+	}
+
+	/**
+	 * Runs {@code GanttQuery} and collects what it prints.
+	 *
+	 * @param index the index file.
+	 * @param query the query.
+	 * @return the output of the query.
+	 * @throws Exception if the query fails.
+	 */
+	private static String query(String index, String query) throws Exception {
+		PrintStream out = System.out;
+		ByteArrayOutputStream printed = new ByteArrayOutputStream();
+
+		try {
+			System.setOut(new PrintStream(printed, true));
+			GanttQuery.main(new String[]{index, query});
+		} finally {
+			System.setOut(out);
+		}
+
+		return printed.toString();
+	}
+}
@@ -0,0 +1,93 @@
+package com.zhunio.process.schedule.gantt;
+
+import com.zhunio.process.PCB;
+import com.zhunio.process.queue.ReadyQueue;
+import com.zhunio.process.schedule.algorithm.P_PL;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Checks the windows written by {@code UtilizationSummarySink}: entries
+ * spread over the windows they span, idle windows, the last window ending
+ * with the simulation, and the split of the CPU time by priority.
+ */
+class UtilizationSummarySinkTest {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void spreadsEntriesOverTheirWindows() throws Exception {
+		File summary = directory.resolve("output.summary").toFile();
+
+		try (GanttSink sink = new UtilizationSummarySink(summary, 10)) {
+			sink.emit(0, 4, 1, 2);
+			sink.emit(4, 7, 2, 5);
+			// Spans three windows
+			sink.emit(7, 25, 1, 2);
+			// Leaves the window from 30 to 40 idle
+			sink.emit(42, 44, 3, 5);
+			sink.emit(44, 47, 3, 5);
+		}
+
+		assertEquals(Arrays.asList(
+			"0 10 busy=10 idle=0 switches=2 p2=7 p5=3",
+			"10 20 busy=10 idle=0 switches=0 p2=10",
+			"20 30 busy=5 idle=5 switches=0 p2=5",
+			"30 40 busy=0 idle=10 switches=0",
+			"40 47 busy=5 idle=2 switches=1 p5=5"), Files.readAllLines(summary.toPath()));
+	}
+
+	@Test
+	void endsWithTheSimulation() throws Exception {
+		File summary = directory.resolve("output.summary").toFile();
+
+		// The last entry ends with a window, so no empty window follows
+		try (GanttSink sink = new UtilizationSummarySink(summary, 4)) {
+			sink.emit(1, 3, 1);
+			sink.emit(3, 8, 2);
+		}
+
+		assertEquals(Arrays.asList(
+			"0 4 busy=3 idle=1 switches=1 p0=3",
+			"4 8 busy=4 idle=0 switches=0 p0=4"), Files.readAllLines(summary.toPath()));
+
+		// An empty chart has no window
+		new UtilizationSummarySink(summary, 4).close();
+		assertEquals(Collections.emptyList(), Files.readAllLines(summary.toPath()));
+
+		assertThrows(IllegalArgumentException.class, () -> new UtilizationSummarySink(summary, 0));
+	}
+
+	@Test
+	void splitsByTheOwnPriorityOfAgedProcesses() throws Exception {
+		File summary = directory.resolve("output.summary").toFile();
+
+		ReadyQueue readyQueue = new ReadyQueue(true, 2);
+		readyQueue.add(new PCB(1, 0, 6, 9));
+		readyQueue.add(new PCB(2, 0, 6, 3));
+		readyQueue.add(new PCB(3, 1, 2, 9));
+
+		// Processes with priority 9 age down to 3 while they wait, but run
+		// with their own priority
+		try (GanttSink sink = new UtilizationSummarySink(summary, 20)) {
+			new P_PL(1, 3).run(readyQueue, sink);
+		}
+
+		List<String> lines = Files.readAllLines(summary.toPath());
+		assertEquals(1, lines.size());
+		assertEquals("p3=6 p9=8", lines.get(0).substring(lines.get(0).indexOf('p')));
+	}
+}
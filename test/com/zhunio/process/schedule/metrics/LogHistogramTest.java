@@ -0,0 +1,111 @@
+package com.zhunio.process.schedule.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Checks the percentiles of a {@code LogHistogram} against the values
+ * recorded, sorted: exact below 128, and at most 1/128 above the exact
+ * percentile beyond.
+ */
+class LogHistogramTest {
+	/* Percentiles checked */
+	private static final double[] PERCENTILES = {0, 0.1, 1, 10, 25, 50, 75, 90, 99, 99.9, 100};
+
+	@Test
+	void reportsSmallValuesExactly() {
+		SplittableRandom random = new SplittableRandom(30);
+		long[] values = new long[5001];
+		for (int i = 0; i < values.length; i++)
+			values[i] = random.nextInt(128);
+
+		checkPercentiles(values, true);
+	}
+
+	@Test
+	void reportsLargeValuesWithinABucket() {
+		SplittableRandom random = new SplittableRandom(31);
+
+		for (int magnitude : new int[]{10, 20, 40, 61}) {
+			long[] values = new long[10_000];
+			for (int i = 0; i < values.length; i++)
+				values[i] = random.nextLong(1L << random.nextInt(1, magnitude + 1));
+
+			checkPercentiles(values, false);
+		}
+
+		// Powers of two and their neighbours fall at bucket edges
+		long[] edges = new long[3 * 62];
+		for (int bit = 1; bit < 63; bit++) {
+			edges[3 * (bit - 1)] = (1L << bit) - 1;
+			edges[3 * (bit - 1) + 1] = 1L << bit;
+			edges[3 * (bit - 1) + 2] = (1L << bit) + 1;
+		}
+		checkPercentiles(edges, false);
+	}
+
+	@Test
+	void keepsCountMeanAndMaxExact() {
+		LogHistogram histogram = new LogHistogram();
+		assertEquals(0, histogram.getCount());
+		assertEquals(0, histogram.getMean());
+		assertEquals(0, histogram.getMax());
+		assertEquals(0, histogram.getPercentile(50));
+
+		for (long value : new long[]{0, 3, 1000, 12_345})
+			histogram.record(value);
+
+		assertEquals(4, histogram.getCount());
+		assertEquals(13_348 / 4.0, histogram.getMean());
+		assertEquals(12_345, histogram.getMax());
+		assertEquals(0, histogram.getPercentile(0));
+		assertEquals(12_345, histogram.getPercentile(100));
+
+		LogHistogram largest = new LogHistogram();
+		largest.record(Long.MAX_VALUE);
+		assertEquals(Long.MAX_VALUE, largest.getPercentile(50));
+
+		assertThrows(IllegalArgumentException.class, () -> histogram.record(-1));
+		assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(-0.5));
+		assertThrows(IllegalArgumentException.class, () -> histogram.getPercentile(100.5));
+	}
+
+	/**
+	 * Records values into a histogram and checks its percentiles against the
+	 * exact ones.
+	 *
+	 * @param values the values.
+	 * @param exact  true if the percentiles must be exact.
+	 */
+	private static void checkPercentiles(long[] values, boolean exact) {
+		LogHistogram histogram = new LogHistogram();
+		for (long value : values)
+			histogram.record(value);
+
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		assertEquals(values.length, histogram.getCount());
+		assertEquals(sorted[sorted.length - 1], histogram.getMax());
+
+		for (double percentile : PERCENTILES) {
+			long rank = Math.max(1, (long) Math.ceil(percentile / 100 * values.length));
+			long expected = sorted[(int) rank - 1];
+			long reported = histogram.getPercentile(percentile);
+
+			if (exact)
+				assertEquals(expected, reported, "p" + percentile);
+			else
+				assertTrue(reported >= expected && reported - expected <= expected / 128,
+					"p" + percentile + " reported " + reported + " for " + expected);
+		}
+	}
+}
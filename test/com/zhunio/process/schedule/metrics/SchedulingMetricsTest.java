@@ -0,0 +1,175 @@
+package com.zhunio.process.schedule.metrics;
+
+import com.zhunio.process.ProcessTable;
+import com.zhunio.process.queue.ReadyQueue;
+import com.zhunio.process.schedule.JobScheduler;
+import com.zhunio.process.schedule.ScheduleAlgorithm;
+import com.zhunio.process.schedule.algorithm.FCFS;
+import com.zhunio.process.schedule.algorithm.P_PL;
+import com.zhunio.process.schedule.gantt.ListGanttSink;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Created on 10/17/26.
+ *
+ * Checks the waiting, turnaround and response times measured by
+ * {@code SchedulingMetrics} against the Gantt charts of the job pools
+ * under test/.
+ */
+class SchedulingMetricsTest {
+	/* Job pools under test/ */
+	private static final String[] JOB_POOLS = {"input.data", "input1.data", "input2.data"};
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void measuresFirstComeFirstServed() throws Exception {
+		SchedulingMetrics metrics = new SchedulingMetrics(new ListGanttSink());
+		new FCFS().run(new JobScheduler(jobPool("input.data")).loadJobPool(), metrics);
+
+		// P1 runs from 0 to 4, P2 from 4 to 7 and P3 from 7 to 9
+		assertEquals(Arrays.asList(0, 4, 7), Arrays.asList(metrics.getFirstRunTime(1),
+			metrics.getFirstRunTime(2), metrics.getFirstRunTime(3)));
+		assertEquals(Arrays.asList(4, 7, 9), Arrays.asList(metrics.getCompletionTime(1),
+			metrics.getCompletionTime(2), metrics.getCompletionTime(3)));
+
+		assertMetrics(metrics.getWaiting(), 0, 3, 5);
+		assertMetrics(metrics.getTurnaround(), 4, 6, 7);
+		assertMetrics(metrics.getResponse(), 0, 3, 5);
+
+		assertEquals(-1, metrics.getFirstRunTime(4));
+		assertEquals(-1, metrics.getCompletionTime(4000));
+	}
+
+	@Test
+	void measuresTheChartsOfTheTestJobPools() throws Exception {
+		for (String jobPool : JOB_POOLS)
+			for (ScheduleAlgorithm algorithm : new ScheduleAlgorithm[]{new FCFS(), new P_PL()}) {
+				ReadyQueue readyQueue = new JobScheduler(jobPool(jobPool)).loadJobPool();
+				ProcessTable table = readyQueue.getProcessTable();
+				int processes = table.size();
+
+				// Read the process attributes before the algorithm runs
+				int[] arriveTimes = new int[processes + 1];
+				int[] burstTimes = new int[processes + 1];
+				for (int handle = 0; handle < processes; handle++) {
+					arriveTimes[table.getProcessID(handle)] = table.getArriveTime(handle);
+					burstTimes[table.getProcessID(handle)] = table.getBurstTime(handle);
+				}
+
+				ListGanttSink chart = new ListGanttSink();
+				SchedulingMetrics metrics = new SchedulingMetrics(chart);
+				algorithm.run(readyQueue, metrics);
+
+				// First and last entry of every process, from the chart
+				int[] firstRuns = new int[processes + 1];
+				int[] completions = new int[processes + 1];
+				Arrays.fill(firstRuns, -1);
+				for (String line : chart.getLines()) {
+					String[] entry = line.split(" ");
+					int processID = Integer.parseInt(entry[2].substring(1));
+
+					if (firstRuns[processID] < 0)
+						firstRuns[processID] = Integer.parseInt(entry[0]);
+					completions[processID] = Integer.parseInt(entry[1]);
+				}
+
+				long[] waiting = new long[processes];
+				long[] turnaround = new long[processes];
+				long[] response = new long[processes];
+				for (int processID = 1; processID <= processes; processID++) {
+					String message = jobPool + " " + algorithm.getName() + " P" + processID;
+					assertEquals(firstRuns[processID], metrics.getFirstRunTime(processID), message);
+					assertEquals(completions[processID], metrics.getCompletionTime(processID),
+						message);
+
+					turnaround[processID - 1] = completions[processID] - arriveTimes[processID];
+					waiting[processID - 1] = turnaround[processID - 1] - burstTimes[processID];
+					response[processID - 1] = firstRuns[processID] - arriveTimes[processID];
+				}
+
+				assertMetrics(metrics.getWaiting(), waiting);
+				assertMetrics(metrics.getTurnaround(), turnaround);
+				assertMetrics(metrics.getResponse(), response);
+			}
+	}
+
+	@Test
+	void writesAReport() throws Exception {
+		SchedulingMetrics metrics = new SchedulingMetrics(new ListGanttSink());
+		new P_PL().run(new JobScheduler(jobPool("input2.data")).loadJobPool(), metrics);
+
+		File report = directory.resolve("output.metrics").toFile();
+		metrics.writeReport(report);
+
+		List<String> lines = Files.readAllLines(report.toPath());
+		assertEquals(3, lines.size());
+		assertEquals(line("waiting", metrics.getWaiting()), lines.get(0));
+		assertEquals(line("turnaround", metrics.getTurnaround()), lines.get(1));
+		assertEquals(line("response", metrics.getResponse()), lines.get(2));
+		assertEquals("waiting count=7 ", lines.get(0).substring(0, 16));
+	}
+
+	@Test
+	void refusesProcessesCompletingWithoutRunning() {
+		SchedulingMetrics metrics = new SchedulingMetrics(new ListGanttSink());
+
+		assertThrows(IllegalStateException.class, () -> metrics.complete(1, 0, 2, 2));
+		assertThrows(IllegalArgumentException.class, () -> metrics.emit(0, 2, -1));
+	}
+
+	/**
+	 * Retrieves the path of a job pool under test/.
+	 *
+	 * @param name the name of the job pool.
+	 * @return the path of the job pool.
+	 */
+	private static String jobPool(String name) {
+		return Path.of("..", "test", name).toString();
+	}
+
+	/**
+	 * Checks a histogram against the values it should hold, all below 128 so
+	 * its percentiles are exact.
+	 *
+	 * @param histogram the histogram.
+	 * @param values    the values.
+	 */
+	private static void assertMetrics(LogHistogram histogram, long... values) {
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		assertEquals(values.length, histogram.getCount());
+		assertEquals((double) Arrays.stream(values).sum() / values.length, histogram.getMean());
+		assertEquals(sorted[sorted.length - 1], histogram.getMax());
+
+		for (double percentile : new double[]{0, 50, 99, 100})
+			assertEquals(sorted[(int) Math.max(1, Math.ceil(percentile / 100 * values.length)) - 1],
+				histogram.getPercentile(percentile), "p" + percentile);
+	}
+
+	/**
+	 * Formats the line of the report of a metric.
+	 *
+	 * @param name      the name of the metric.
+	 * @param histogram the histogram of the metric.
+	 * @return the line.
+	 */
+	private static String line(String name, LogHistogram histogram) {
+		return String.format(Locale.ROOT, "%s count=%d mean=%.2f p50=%d p99=%d max=%d",
+			name, histogram.getCount(), histogram.getMean(), histogram.getPercentile(50),
+			histogram.getPercentile(99), histogram.getMax());
+	}
+}